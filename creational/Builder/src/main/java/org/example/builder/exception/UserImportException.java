@@ -0,0 +1,11 @@
+package org.example.builder.exception;
+
+public class UserImportException extends RuntimeException {
+    public UserImportException(String message) {
+        super(message);
+    }
+
+    public UserImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.builder.exception;
+
+import java.util.List;
+
+public class UserValidationException extends RuntimeException {
+    private final List<String> violations;
+
+    public UserValidationException(List<String> violations) {
+        super("Invalid user: " + String.join("; ", violations));
+        this.violations = violations;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.builder.export;
+
+public enum UserExportFormat {
+    // One JSON object per line
+    NDJSON,
+    // "USR1" header, then per user: flags byte (1 = id present, 2 = age present), id long, age int,
+    // and name, email, address as int byte length (-1 for null) followed by UTF-8 bytes; big-endian
+    BINARY
+}
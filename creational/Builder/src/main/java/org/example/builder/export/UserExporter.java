@@ -0,0 +1,179 @@
+package org.example.builder.export;
+
+import org.example.builder.model.User;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Encodes users into one reused direct buffer and drains it to the channel whenever the next record
+ * might not fit, so memory stays bounded by the buffer no matter how many users are exported.
+ * Not thread-safe; close() flushes but leaves the channel open.
+ */
+public class UserExporter implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] BINARY_MAGIC = {'U', 'S', 'R', '1'};
+    // Worst case for one UTF-16 unit in UTF-8
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    private static final int FIXED_RECORD_BYTES = 64;
+
+    private final WritableByteChannel channel;
+    private final UserExportFormat format;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder line = new StringBuilder(256);
+    private ByteBuffer buffer;
+    private long written;
+
+    public UserExporter(WritableByteChannel channel, UserExportFormat format) {
+        this(channel, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    public UserExporter(WritableByteChannel channel, UserExportFormat format, int bufferSize) {
+        this.channel = channel;
+        this.format = format;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        if (format == UserExportFormat.BINARY) {
+            buffer.put(BINARY_MAGIC);
+        }
+    }
+
+    // Pulls users one at a time, so a lazy stream is never materialized
+    public static long export(Stream<User> users, WritableByteChannel channel, UserExportFormat format) {
+        try (UserExporter exporter = new UserExporter(channel, format)) {
+            users.sequential().forEach(exporter::write);
+            return exporter.getWritten();
+        }
+    }
+
+    public void write(User user) {
+        if (format == UserExportFormat.NDJSON) {
+            writeJson(user);
+        } else {
+            writeBinary(user);
+        }
+        written++;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void writeJson(User user) {
+        line.setLength(0);
+        line.append("{\"id\":");
+        if (user.hasId()) {
+            line.append(user.getIdAsLong());
+        } else {
+            line.append("null");
+        }
+        appendJsonField("name", user.getName());
+        appendJsonField("email", user.getEmail());
+        line.append(",\"age\":");
+        if (user.hasAge()) {
+            line.append(user.getAgeAsInt());
+        } else {
+            line.append("null");
+        }
+        appendJsonField("address", user.getAddress());
+        line.append("}\n");
+
+        reserve(line.length() * MAX_BYTES_PER_CHAR);
+        encode(line);
+    }
+
+    private void appendJsonField(String name, String value) {
+        line.append(",\"").append(name).append("\":");
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    private void writeBinary(User user) {
+        reserve(FIXED_RECORD_BYTES + MAX_BYTES_PER_CHAR * (length(user.getName()) + length(user.getEmail()) + length(user.getAddress())));
+        buffer.put((byte) ((user.hasId() ? 1 : 0) | (user.hasAge() ? 2 : 0)));
+        buffer.putLong(user.getIdAsLong());
+        buffer.putInt(user.getAgeAsInt());
+        putString(user.getName());
+        putString(user.getEmail());
+        putString(user.getAddress());
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        final int lengthPosition = buffer.position();
+        buffer.putInt(0);
+        encode(value);
+        buffer.putInt(lengthPosition, buffer.position() - lengthPosition - Integer.BYTES);
+    }
+
+    // reserve() sized the buffer for the worst case, so encoding cannot overflow
+    private void encode(CharSequence value) {
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(value), buffer, true);
+        encoder.flush(buffer);
+    }
+
+    private void reserve(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        flush();
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect(bytes);
+        }
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
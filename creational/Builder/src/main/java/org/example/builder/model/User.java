@@ -1,39 +1,114 @@
 package org.example.builder.model;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
+import org.example.builder.validation.UserValidationMode;
+import org.example.builder.validation.UserValidator;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
-@ToString
+@ToString(onlyExplicitlyIncluded = true)
+// Fields, not getters: getId() and getAge() box, and UserPool hashes every user it sees
+@EqualsAndHashCode(doNotUseGetters = true)
 public class User {
-    Long id;
+    // id and age are stored unboxed; the flags tell an explicit null apart from 0
+    long id;
+    boolean hasId;
+    @ToString.Include(rank = 4)
     String name;
+    @ToString.Include(rank = 3)
     String email;
-    Integer age;
+    int age;
+    boolean hasAge;
+    @ToString.Include(rank = 1)
     String address;
 
     private User(UserBuilder builder) {
         this.id = builder.id;
+        this.hasId = builder.hasId;
         this.name = builder.name;
         this.email = builder.email;
         this.age = builder.age;
+        this.hasAge = builder.hasAge;
         this.address = builder.address;
     }
 
+    // Boxes ids above 127 on every call; hot paths use hasId() and getIdAsLong()
+    @ToString.Include(name = "id", rank = 5)
+    public Long getId() {
+        return hasId ? id : null;
+    }
+
+    public boolean hasId() {
+        return hasId;
+    }
+
+    // Unboxed id, 0 when absent
+    public long getIdAsLong() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    // Boxed like getId(); hot paths use hasAge() and getAgeAsInt()
+    @ToString.Include(name = "age", rank = 2)
+    public Integer getAge() {
+        return hasAge ? age : null;
+    }
+
+    public boolean hasAge() {
+        return hasAge;
+    }
+
+    // Unboxed age, 0 when absent
+    public int getAgeAsInt() {
+        return age;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    // Starts from this user's field references; build() returns this same instance if nothing was changed
+    public UserBuilder toBuilder() {
+        return new UserBuilder().from(this);
+    }
+
+    private boolean hasSameFields(UserBuilder builder) {
+        return id == builder.id && hasId == builder.hasId && age == builder.age && hasAge == builder.hasAge
+                && name == builder.name && email == builder.email && address == builder.address;
+    }
+
     @FieldDefaults(level = AccessLevel.PRIVATE)
     public static class UserBuilder {
-        Long id;
+        long id;
+        boolean hasId;
         String name;
         String email;
-        Integer age;
+        int age;
+        boolean hasAge;
         String address;
+        UserValidationMode validationMode = UserValidationMode.FAIL_FAST;
+        // Set by User.toBuilder(); already validated, so it can be returned as is
+        User source;
 
-        public UserBuilder setId(Long id) {
+        public UserBuilder setId(long id) {
             this.id = id;
+            this.hasId = true;
             return this;
         }
 
+        public UserBuilder setId(Long id) {
+            return id == null ? clearId() : setId(id.longValue());
+        }
+
         public UserBuilder setName(String name) {
             this.name = name;
             return this;
@@ -44,18 +119,58 @@ public class User {
             return this;
         }
 
-        public UserBuilder setAge(Integer age) {
+        public UserBuilder setAge(int age) {
             this.age = age;
+            this.hasAge = true;
             return this;
         }
 
+        public UserBuilder setAge(Integer age) {
+            return age == null ? clearAge() : setAge(age.intValue());
+        }
+
         public UserBuilder setAddress(String address) {
             this.address = address;
             return this;
         }
 
+        public UserBuilder setValidationMode(UserValidationMode validationMode) {
+            this.validationMode = validationMode;
+            return this;
+        }
+
+        // Throws UserValidationException when a UserConstraint is violated
         public User build() {
-            return new User(this);
+            if (source != null && source.hasSameFields(this)) {
+                return source;
+            }
+            final User user = new User(this);
+            UserValidator.validate(user, validationMode);
+            return user;
+        }
+
+        private UserBuilder from(User user) {
+            id = user.id;
+            hasId = user.hasId;
+            name = user.name;
+            email = user.email;
+            age = user.age;
+            hasAge = user.hasAge;
+            address = user.address;
+            source = user;
+            return this;
+        }
+
+        private UserBuilder clearId() {
+            this.id = 0;
+            this.hasId = false;
+            return this;
+        }
+
+        private UserBuilder clearAge() {
+            this.age = 0;
+            this.hasAge = false;
+            return this;
         }
     }
 }
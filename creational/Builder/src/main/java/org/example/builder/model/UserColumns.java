@@ -0,0 +1,18 @@
+package org.example.builder.model;
+
+/**
+ * Users laid out column by column: row i is ids[i], names[i], emails[i], ages[i], addresses[i].
+ * Ids and ages are primitive, so every row has both.
+ */
+public record UserColumns(long[] ids, String[] names, String[] emails, int[] ages, String[] addresses) {
+    public UserColumns {
+        final int size = ids.length;
+        if (names.length != size || emails.length != size || ages.length != size || addresses.length != size) {
+            throw new IllegalArgumentException("All user columns must have the same length");
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
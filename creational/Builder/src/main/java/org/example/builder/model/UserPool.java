@@ -0,0 +1,56 @@
+package org.example.builder.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Optional canonicalization pool: equal users resolve to one shared instance, and repeated name, email
+ * and address values to one shared String. Entries are weak, so the pool never keeps a user or value
+ * alive by itself and shrinks as the dataset that uses them is released.
+ */
+public class UserPool {
+    private final Map<User, WeakReference<User>> users = new WeakHashMap<>();
+    private final Map<String, WeakReference<String>> values = new WeakHashMap<>();
+
+    public synchronized User canonicalize(User user) {
+        final User pooled = lookup(users, user);
+        if (pooled != null) {
+            return pooled;
+        }
+        // Reuses the user itself when all of its values were already canonical
+        final User canonical = user.toBuilder()
+                .setName(intern(user.getName()))
+                .setEmail(intern(user.getEmail()))
+                .setAddress(intern(user.getAddress()))
+                .build();
+        users.put(canonical, new WeakReference<>(canonical));
+        return canonical;
+    }
+
+    public synchronized String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        final String pooled = lookup(values, value);
+        if (pooled != null) {
+            return pooled;
+        }
+        values.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    public synchronized int getUserCount() {
+        return users.size();
+    }
+
+    public synchronized int getValueCount() {
+        return values.size();
+    }
+
+    // The value must be weak too: a strong value referring to its own key would never be collected
+    private static <T> T lookup(Map<T, WeakReference<T>> pool, T key) {
+        final WeakReference<T> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+}
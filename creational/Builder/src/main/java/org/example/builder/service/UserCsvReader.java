@@ -0,0 +1,131 @@
+package org.example.builder.service;
+
+import org.example.builder.exception.UserImportException;
+import org.example.builder.model.UserColumns;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads "id,name,email,age,address" CSV straight into columns, growing primitive arrays instead of
+ * collecting one object per row. Fields may be quoted, with "" for a literal quote; an empty text
+ * field is read as null.
+ */
+public class UserCsvReader {
+    private static final String CSV_HEADER = "id,name,email,age,address";
+    private static final int FIELDS = 5;
+
+    private long[] ids = new long[1024];
+    private String[] names = new String[1024];
+    private String[] emails = new String[1024];
+    private int[] ages = new int[1024];
+    private String[] addresses = new String[1024];
+    private int size;
+    private long lineNumber;
+
+    public static UserColumns read(BufferedReader reader) {
+        return new UserCsvReader().readAll(reader);
+    }
+
+    private UserColumns readAll(BufferedReader reader) {
+        final List<String> fields = new ArrayList<>(FIELDS);
+        String line;
+        try {
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.strip().equals(CSV_HEADER))) {
+                    continue;
+                }
+                split(line, fields);
+                if (fields.size() != FIELDS) {
+                    throw error("expected %d fields but got %d".formatted(FIELDS, fields.size()), null);
+                }
+                ensureCapacity();
+                ids[size] = parseLong(fields.get(0));
+                names[size] = emptyToNull(fields.get(1));
+                emails[size] = emptyToNull(fields.get(2));
+                ages[size] = parseInt(fields.get(3));
+                addresses[size] = emptyToNull(fields.get(4));
+                size++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new UserColumns(
+                Arrays.copyOf(ids, size),
+                Arrays.copyOf(names, size),
+                Arrays.copyOf(emails, size),
+                Arrays.copyOf(ages, size),
+                Arrays.copyOf(addresses, size)
+        );
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            final int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            addresses = Arrays.copyOf(addresses, capacity);
+        }
+    }
+
+    private void split(String line, List<String> fields) {
+        fields.clear();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw error("unterminated quoted field", null);
+        }
+        fields.add(field.toString());
+    }
+
+    private long parseLong(String value) {
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException e) {
+            throw error("invalid id '" + value + "'", e);
+        }
+    }
+
+    private int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            throw error("invalid age '" + value + "'", e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private UserImportException error(String reason, Throwable cause) {
+        return new UserImportException("CSV line %d: %s".formatted(lineNumber, reason), cause);
+    }
+}
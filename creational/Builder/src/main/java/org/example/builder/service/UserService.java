@@ -2,8 +2,14 @@ package org.example.builder.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.builder.model.User;
+import org.example.builder.model.UserColumns;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -17,4 +23,26 @@ public class UserService {
                 .setAddress("123 Main St")
                 .build();
     }
+
+    // Builds every row in one pass; rows are split across the common pool
+    public List<User> createUsers(UserColumns columns) {
+        final User[] users = new User[columns.size()];
+        IntStream.range(0, users.length).parallel().forEach(i -> users[i] = buildRow(columns, i));
+        return Arrays.asList(users);
+    }
+
+    // Builds each row only when the stream pulls it, e.g. to export a batch without holding all users
+    public Stream<User> streamUsers(UserColumns columns) {
+        return IntStream.range(0, columns.size()).mapToObj(i -> buildRow(columns, i));
+    }
+
+    private static User buildRow(UserColumns columns, int row) {
+        return new User.UserBuilder()
+                .setId(columns.ids()[row])
+                .setName(columns.names()[row])
+                .setEmail(columns.emails()[row])
+                .setAge(columns.ages()[row])
+                .setAddress(columns.addresses()[row])
+                .build();
+    }
 }
@@ -0,0 +1,67 @@
+package org.example.builder.validation;
+
+import org.example.builder.model.User;
+
+/**
+ * The User constraints as plain code, so checking them needs no reflection, annotation lookup or
+ * message interpolation. Each check reads the unboxed accessors and allocates nothing.
+ */
+public enum UserConstraint {
+    ID_POSITIVE("id must be positive") {
+        @Override
+        public boolean isSatisfiedBy(User user) {
+            return !user.hasId() || user.getIdAsLong() > 0;
+        }
+    },
+    NAME_NOT_BLANK("name must not be blank") {
+        @Override
+        public boolean isSatisfiedBy(User user) {
+            return user.getName() != null && !user.getName().isBlank();
+        }
+    },
+    EMAIL_WELL_FORMED("email must be a well-formed address") {
+        @Override
+        public boolean isSatisfiedBy(User user) {
+            return user.getEmail() == null || isWellFormedEmail(user.getEmail());
+        }
+    },
+    AGE_IN_RANGE("age must be between " + UserConstraint.MIN_AGE + " and " + UserConstraint.MAX_AGE) {
+        @Override
+        public boolean isSatisfiedBy(User user) {
+            return !user.hasAge() || (user.getAgeAsInt() >= MIN_AGE && user.getAgeAsInt() <= MAX_AGE);
+        }
+    };
+
+    public static final int MIN_AGE = 0;
+    public static final int MAX_AGE = 150;
+
+    private final String message;
+
+    UserConstraint(String message) {
+        this.message = message;
+    }
+
+    public abstract boolean isSatisfiedBy(User user);
+
+    public String getMessage() {
+        return message;
+    }
+
+    // local@domain.tld: one '@', no whitespace, and a dot inside the domain that is not its first or last character
+    static boolean isWellFormedEmail(String email) {
+        final int at = email.indexOf('@');
+        if (at <= 0 || at != email.lastIndexOf('@')) {
+            return false;
+        }
+        final int dot = email.lastIndexOf('.');
+        if (dot <= at + 1 || dot == email.length() - 1) {
+            return false;
+        }
+        for (int i = 0; i < email.length(); i++) {
+            if (Character.isWhitespace(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.builder.validation;
+
+public enum UserValidationMode {
+    // Throws on the first violated constraint
+    FAIL_FAST,
+    // Checks every constraint and reports all violations together
+    COLLECT_ALL
+}
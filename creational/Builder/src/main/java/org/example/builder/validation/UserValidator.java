@@ -0,0 +1,35 @@
+package org.example.builder.validation;
+
+import org.example.builder.exception.UserValidationException;
+import org.example.builder.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class UserValidator {
+    // values() clones its array on every call
+    private static final UserConstraint[] CONSTRAINTS = UserConstraint.values();
+
+    private UserValidator() {
+    }
+
+    // Allocates only once a constraint fails
+    public static void validate(User user, UserValidationMode mode) {
+        List<String> violations = null;
+        for (UserConstraint constraint : CONSTRAINTS) {
+            if (constraint.isSatisfiedBy(user)) {
+                continue;
+            }
+            if (mode == UserValidationMode.FAIL_FAST) {
+                throw new UserValidationException(List.of(constraint.getMessage()));
+            }
+            if (violations == null) {
+                violations = new ArrayList<>(CONSTRAINTS.length);
+            }
+            violations.add(constraint.getMessage());
+        }
+        if (violations != null) {
+            throw new UserValidationException(List.copyOf(violations));
+        }
+    }
+}
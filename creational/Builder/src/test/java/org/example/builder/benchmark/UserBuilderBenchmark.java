@@ -0,0 +1,110 @@
+package org.example.builder.benchmark;
+
+import org.example.builder.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The previous boxed User layout (copied below as BoxedUser) against User built with its builder.
+ * The id is outside the Long cache, as import ids usually are. Add
+ * -jvmArgsAppend -XX:-DoEscapeAnalysis to see the builder allocation that the JIT otherwise removes
+ * when the whole chain is inlined. Run with -prof gc and compare gc.alloc.rate.norm:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main UserBuilderBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserBuilderBenchmark {
+
+    private long nextId = 1_000_000L;
+
+    @Benchmark
+    public BoxedUser boxedUser() {
+        return new BoxedUser.Builder()
+                .setId(nextId++)
+                .setName("John Doe")
+                .setEmail("john.doe@example.com")
+                .setAge(30)
+                .setAddress("123 Main St")
+                .build();
+    }
+
+    @Benchmark
+    public User freshBuilderPrimitive() {
+        return new User.UserBuilder()
+                .setId(nextId++)
+                .setName("John Doe")
+                .setEmail("john.doe@example.com")
+                .setAge(30)
+                .setAddress("123 Main St")
+                .build();
+    }
+
+    public static final class BoxedUser {
+        private final Long id;
+        private final String name;
+        private final String email;
+        private final Integer age;
+        private final String address;
+
+        private BoxedUser(Builder builder) {
+            this.id = builder.id;
+            this.name = builder.name;
+            this.email = builder.email;
+            this.age = builder.age;
+            this.address = builder.address;
+        }
+
+        public static final class Builder {
+            private Long id;
+            private String name;
+            private String email;
+            private Integer age;
+            private String address;
+
+            public Builder setId(Long id) {
+                this.id = id;
+                return this;
+            }
+
+            public Builder setName(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public Builder setEmail(String email) {
+                this.email = email;
+                return this;
+            }
+
+            public Builder setAge(Integer age) {
+                this.age = age;
+                return this;
+            }
+
+            public Builder setAddress(String address) {
+                this.address = address;
+                return this;
+            }
+
+            public BoxedUser build() {
+                return new BoxedUser(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.builder.benchmark;
+
+import org.example.builder.model.User;
+import org.example.builder.model.UserColumns;
+import org.example.builder.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Sequential row-by-row construction against UserService.createUsers on the common pool. Vary
+ * -Djava.util.concurrent.ForkJoinPool.common.parallelism through -jvmArgsAppend to see the scaling:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main UserBulkBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserBulkBenchmark {
+
+    @Param("1000000")
+    private int size;
+
+    private final UserService userService = new UserService();
+    private UserColumns columns;
+
+    @Setup
+    public void setUp() {
+        columns = new UserColumns(
+                IntStream.range(0, size).asLongStream().map(i -> i + 1_000_000L).toArray(),
+                IntStream.range(0, size).mapToObj(i -> "user" + i).toArray(String[]::new),
+                IntStream.range(0, size).mapToObj(i -> "user" + i + "@example.com").toArray(String[]::new),
+                IntStream.range(0, size).map(i -> 18 + i % 60).toArray(),
+                IntStream.range(0, size).mapToObj(i -> i + " Main St").toArray(String[]::new)
+        );
+    }
+
+    @Benchmark
+    public List<User> sequential() {
+        return userService.streamUsers(columns).toList();
+    }
+
+    @Benchmark
+    public List<User> parallel() {
+        return userService.createUsers(columns);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.builder.benchmark;
+
+import org.example.builder.model.User;
+import org.example.builder.model.UserPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Retained heap of a synthetic import of a million users, as parsed (every row has its own strings),
+ * with interned field values only, and fully canonicalized through a UserPool. Pool overhead is counted:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/cp.txt
+ * java -Xmx2g -cp target/test-classes:target/classes:$(cat target/cp.txt) org.example.builder.benchmark.UserPoolHeapReport
+ * </pre>
+ */
+public class UserPoolHeapReport {
+    private static final int USERS = 1_000_000;
+    // Each person is imported four times; addresses and email domains repeat heavily across people
+    private static final int PEOPLE = 250_000;
+    private static final int ADDRESSES = 5_000;
+    private static final int DOMAINS = 20;
+
+    public static void main(String[] args) {
+        final long raw = retained(pool -> UnaryOperator.identity());
+        final long interned = retained(pool -> user -> user.toBuilder()
+                .setName(pool.intern(user.getName()))
+                .setEmail(pool.intern(user.getEmail()))
+                .setAddress(pool.intern(user.getAddress()))
+                .build());
+        final long canonical = retained(pool -> pool::canonicalize);
+
+        System.out.printf("%-22s %10s %10s%n", "dataset", "MB", "B/user");
+        print("as parsed", raw, raw);
+        print("interned values", interned, raw);
+        print("canonical users", canonical, raw);
+    }
+
+    private static long retained(Function<UserPool, UnaryOperator<User>> canonicalizer) {
+        final long before = usedAfterGc();
+        final UserPool pool = new UserPool();
+        final UnaryOperator<User> operator = canonicalizer.apply(pool);
+        final List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(operator.apply(parse(i % PEOPLE)));
+        }
+        final long retained = usedAfterGc() - before;
+        // Keeps both the dataset and the pool reachable until after the measurement
+        if (users.size() + pool.getUserCount() < 0) {
+            throw new IllegalStateException();
+        }
+        return retained;
+    }
+
+    private static User parse(int person) {
+        return new User.UserBuilder()
+                .setId(person + 1L)
+                .setName("User " + person)
+                .setEmail("user" + person + "@domain" + person % DOMAINS + ".example.com")
+                .setAge(18 + person % 60)
+                .setAddress(person % ADDRESSES + " Main St")
+                .build();
+    }
+
+    private static long usedAfterGc() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void print(String label, long bytes, long baseline) {
+        System.out.printf("%-22s %10.1f %10d  (%+.0f%%)%n", label, bytes / 1e6, bytes / USERS,
+                100.0 * (bytes - baseline) / baseline);
+    }
+}
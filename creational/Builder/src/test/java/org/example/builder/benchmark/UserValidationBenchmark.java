@@ -0,0 +1,93 @@
+package org.example.builder.benchmark;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.example.builder.model.User;
+import org.example.builder.validation.UserValidationMode;
+import org.example.builder.validation.UserValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Success-path cost of UserValidator against Hibernate Validator checking the same constraints on an
+ * annotated copy of the fields. Run with -prof gc to compare allocation per check:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main UserValidationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private User user;
+    private AnnotatedUser annotatedUser;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        user = new User.UserBuilder()
+                .setId(1_000_000L)
+                .setName("John Doe")
+                .setEmail("john.doe@example.com")
+                .setAge(30)
+                .setAddress("123 Main St")
+                .build();
+        annotatedUser = new AnnotatedUser(1_000_000L, "John Doe", "john.doe@example.com", 30, "123 Main St");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public User precompiledFailFast() {
+        UserValidator.validate(user, UserValidationMode.FAIL_FAST);
+        return user;
+    }
+
+    @Benchmark
+    public User precompiledCollectAll() {
+        UserValidator.validate(user, UserValidationMode.COLLECT_ALL);
+        return user;
+    }
+
+    @Benchmark
+    public Set<?> hibernateValidator() {
+        return beanValidator.validate(annotatedUser);
+    }
+
+    public record AnnotatedUser(
+            @Positive Long id,
+            @NotBlank String name,
+            @Email String email,
+            @Min(0) @Max(150) Integer age,
+            String address) {
+    }
+}
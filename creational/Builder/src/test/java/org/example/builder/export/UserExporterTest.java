@@ -0,0 +1,69 @@
+package org.example.builder.export;
+
+import org.example.builder.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class UserExporterTest {
+
+    @Test
+    void testNdjsonExport() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final User john = new User.UserBuilder().setId(1L).setName("John \"JD\" Doe").setAge(30).build();
+        final User jane = new User.UserBuilder().setName("Jané").setEmail("jane@example.com").setAddress("Line1\nLine2").build();
+
+        final long written = UserExporter.export(Stream.of(john, jane), Channels.newChannel(out), UserExportFormat.NDJSON);
+
+        assertEquals(2, written);
+        assertEquals("""
+                {"id":1,"name":"John \\"JD\\" Doe","email":null,"age":30,"address":null}
+                {"id":null,"name":"Jané","email":"jane@example.com","age":null,"address":"Line1\\nLine2"}
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testBinaryExportRoundTripsThroughSmallBuffer() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (UserExporter exporter = new UserExporter(Channels.newChannel(out), UserExportFormat.BINARY, 16)) {
+            IntStream.range(0, 100).forEach(i -> exporter.write(
+                    new User.UserBuilder().setId(10_000L + i).setName("user" + i).setAge(i).setAddress("ü".repeat(i)).build()));
+        }
+
+        final ByteBuffer in = ByteBuffer.wrap(out.toByteArray());
+        assertEquals("USR1", readAscii(in, 4));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(3, in.get());
+            assertEquals(10_000L + i, in.getLong());
+            assertEquals(i, in.getInt());
+            assertEquals("user" + i, readString(in));
+            assertEquals(null, readString(in));
+            assertEquals("ü".repeat(i), readString(in));
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    private static String readAscii(ByteBuffer in, int length) {
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.builder.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserPoolTest {
+
+    @Test
+    void testEqualUsersShareOneInstance() {
+        final UserPool pool = new UserPool();
+        final User first = pool.canonicalize(user(1L, "Main St"));
+        final User second = pool.canonicalize(user(1L, "Main St"));
+
+        assertSame(first, second);
+        assertEquals(1, pool.getUserCount());
+    }
+
+    @Test
+    void testRepeatedValuesAreInterned() {
+        final UserPool pool = new UserPool();
+        final User first = pool.canonicalize(user(1L, "Main St"));
+        final User second = pool.canonicalize(user(2L, "Main St"));
+
+        assertNotSame(first, second);
+        assertSame(first.getAddress(), second.getAddress());
+        assertSame(first.getEmail(), second.getEmail());
+        assertEquals(2, pool.getUserCount());
+    }
+
+    @Test
+    void testAlreadyCanonicalUserIsKept() {
+        final UserPool pool = new UserPool();
+        final User user = new User.UserBuilder().setId(1L).setName(pool.intern("John")).setAddress(pool.intern("Main St")).build();
+
+        assertSame(user, pool.canonicalize(user));
+    }
+
+    // Fresh String instances, as a parser would produce for every row
+    private static User user(long id, String address) {
+        return new User.UserBuilder()
+                .setId(id)
+                .setName(new String("John"))
+                .setEmail(new String("team@example.com"))
+                .setAge(30)
+                .setAddress(new String(address))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.builder.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class UserTest {
+
+    @Test
+    void testPrimitiveAndBoxedSettersBuildTheSameUser() {
+        final User primitive = new User.UserBuilder().setId(1L).setName("John").setAge(30).build();
+        final User boxed = new User.UserBuilder().setId(Long.valueOf(1)).setName("John").setAge(Integer.valueOf(30)).build();
+
+        assertEquals(primitive.toString(), boxed.toString());
+        assertEquals("User(id=1, name=John, email=null, age=30, address=null)", primitive.toString());
+    }
+
+    @Test
+    void testNullIdAndAgeStayNull() {
+        final User user = new User.UserBuilder().setId(5L).setId((Long) null).setName("John").setAge((Integer) null).build();
+
+        assertNull(user.getId());
+        assertNull(user.getAge());
+    }
+
+    @Test
+    void testEqualityComparesAgePresence() {
+        final User withZeroAge = new User.UserBuilder().setId(1000L).setName("John").setAge(0).build();
+        final User withoutAge = new User.UserBuilder().setId(1000L).setName("John").build();
+        final User sameAsWithoutAge = new User.UserBuilder().setId(Long.valueOf(1000)).setName("John").build();
+
+        assertNotEquals(withZeroAge, withoutAge);
+        assertEquals(withoutAge, sameAsWithoutAge);
+        assertEquals(withoutAge.hashCode(), sameAsWithoutAge.hashCode());
+    }
+
+
+    @Test
+    void testToBuilderSharesUnchangedFields() {
+        final User user = new User.UserBuilder().setId(1L).setName("John").setEmail("john@example.com").setAddress("Main St").build();
+        final User moved = user.toBuilder().setAddress("High St").build();
+
+        assertSame(user, user.toBuilder().build());
+        assertSame(user, user.toBuilder().setName(user.getName()).build());
+        assertNotSame(user, moved);
+        assertSame(user.getName(), moved.getName());
+        assertSame(user.getEmail(), moved.getEmail());
+        assertEquals("User(id=1, name=John, email=john@example.com, age=null, address=High St)", moved.toString());
+    }
+}
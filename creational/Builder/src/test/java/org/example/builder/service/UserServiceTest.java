@@ -0,0 +1,63 @@
+package org.example.builder.service;
+
+import org.example.builder.exception.UserImportException;
+import org.example.builder.model.User;
+import org.example.builder.model.UserColumns;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserServiceTest {
+    private final UserService userService = new UserService();
+
+    @Test
+    void testCreateUsersKeepsRowOrder() {
+        final int size = 10_000;
+        final UserColumns columns = new UserColumns(
+                IntStream.rangeClosed(1, size).asLongStream().toArray(),
+                IntStream.range(0, size).mapToObj(i -> "user" + i).toArray(String[]::new),
+                IntStream.range(0, size).mapToObj(i -> "user" + i + "@example.com").toArray(String[]::new),
+                IntStream.range(0, size).map(i -> i % 100).toArray(),
+                new String[size]
+        );
+
+        final List<User> users = userService.createUsers(columns);
+
+        assertEquals(size, users.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i + 1, users.get(i).getIdAsLong());
+            assertEquals("user" + i, users.get(i).getName());
+            assertEquals(i % 100, users.get(i).getAgeAsInt());
+        }
+    }
+
+    @Test
+    void testReadCsvColumns() {
+        final UserColumns columns = UserCsvReader.read(new BufferedReader(new StringReader("""
+                id,name,email,age,address
+                1,John Doe,john@example.com,30,"123 Main St, Apt ""B\"""
+                2,Jane,,25,
+                """)));
+
+        final List<User> users = userService.streamUsers(columns).toList();
+
+        assertEquals(2, users.size());
+        assertEquals("123 Main St, Apt \"B\"", users.get(0).getAddress());
+        assertNull(users.get(1).getEmail());
+        assertEquals(25, users.get(1).getAge());
+    }
+
+    @Test
+    void testReadCsvRejectsInvalidAge() {
+        final UserImportException exception = assertThrows(UserImportException.class,
+                () -> UserCsvReader.read(new BufferedReader(new StringReader("1,John,j@example.com,thirty,Main St"))));
+        assertEquals("CSV line 1: invalid age 'thirty'", exception.getMessage());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.builder.validation;
+
+import org.example.builder.exception.UserValidationException;
+import org.example.builder.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserValidatorTest {
+
+    @Test
+    void testValidUserBuilds() {
+        assertDoesNotThrow(() -> new User.UserBuilder()
+                .setId(1L)
+                .setName("John Doe")
+                .setEmail("john.doe@example.com")
+                .setAge(30)
+                .build());
+    }
+
+    @Test
+    void testFailFastReportsFirstViolation() {
+        final UserValidationException exception = assertThrows(UserValidationException.class,
+                () -> new User.UserBuilder().setId(-1L).setEmail("john").setAge(-5).build());
+
+        assertEquals(List.of("id must be positive"), exception.getViolations());
+    }
+
+    @Test
+    void testCollectAllReportsEveryViolation() {
+        final UserValidationException exception = assertThrows(UserValidationException.class,
+                () -> new User.UserBuilder()
+                        .setValidationMode(UserValidationMode.COLLECT_ALL)
+                        .setName(" ")
+                        .setEmail("john@")
+                        .setAge(200)
+                        .build());
+
+        assertEquals(List.of(
+                "name must not be blank",
+                "email must be a well-formed address",
+                "age must be between 0 and 150"
+        ), exception.getViolations());
+    }
+
+    @Test
+    void testFailsFastByDefault() {
+        final UserValidationException exception = assertThrows(UserValidationException.class,
+                () -> new User.UserBuilder().setAge(-1).build());
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    void testEmailFormat() {
+        assertTrue(UserConstraint.isWellFormedEmail("a@b.co"));
+        assertFalse(UserConstraint.isWellFormedEmail("@b.co"));
+        assertFalse(UserConstraint.isWellFormedEmail("a@@b.co"));
+        assertFalse(UserConstraint.isWellFormedEmail("a@.co"));
+        assertFalse(UserConstraint.isWellFormedEmail("a@b."));
+        assertFalse(UserConstraint.isWellFormedEmail("a b@c.de"));
+    }
+}
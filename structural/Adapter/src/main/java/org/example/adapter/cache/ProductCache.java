@@ -0,0 +1,126 @@
+package org.example.adapter.cache;
+
+import org.example.adapter.model.Product;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * TTL cache of adapted products with stale-while-revalidate: a fresh entry is returned as is, a stale
+ * one is returned immediately while a single background refresh runs, and only a missing or expired
+ * entry makes the caller wait. Concurrent loads of the same id share one call to the loader.
+ * At {@code maxSize} the least recently loaded entry is evicted in constant time. A hot entry is reloaded
+ * once it goes stale, which moves it to the back; the front is cold or already expired.
+ */
+public class ProductCache {
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final int maxSize;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Same entries in load order; only touched on writes, so reads never lock
+    private final LinkedHashMap<String, Entry> loadOrder = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<Product>> inFlight = new ConcurrentHashMap<>();
+
+    public ProductCache(long ttlNanos, long staleNanos, int maxSize, Executor refreshExecutor, LongSupplier nanoClock) {
+        this.ttlNanos = ttlNanos;
+        this.staleNanos = staleNanos;
+        this.maxSize = maxSize;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    public Product get(String id, Function<String, Product> loader) {
+        final Entry entry = entries.get(id);
+        if (entry != null) {
+            final long age = nanoClock.getAsLong() - entry.loadedAt();
+            if (age < ttlNanos) {
+                return entry.product();
+            }
+            if (age < ttlNanos + staleNanos) {
+                refreshAsync(id, loader);
+                return entry.product();
+            }
+        }
+        return load(id, loader);
+    }
+
+    public void invalidate(String id) {
+        synchronized (loadOrder) {
+            loadOrder.remove(id);
+            entries.remove(id);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Product load(String id, Function<String, Product> loader) {
+        final CompletableFuture<Product> pending = new CompletableFuture<>();
+        final CompletableFuture<Product> existing = inFlight.putIfAbsent(id, pending);
+        if (existing != null) {
+            return join(existing);
+        }
+        runLoad(id, loader, pending);
+        return join(pending);
+    }
+
+    private void refreshAsync(String id, Function<String, Product> loader) {
+        final CompletableFuture<Product> pending = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(id, pending) == null) {
+            // A failed refresh leaves the stale entry in place until it expires
+            refreshExecutor.execute(() -> runLoad(id, loader, pending));
+        }
+    }
+
+    private void runLoad(String id, Function<String, Product> loader, CompletableFuture<Product> pending) {
+        try {
+            final Product product = loader.apply(id);
+            put(id, product);
+            pending.complete(product);
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+        } finally {
+            inFlight.remove(id, pending);
+        }
+    }
+
+    private void put(String id, Product product) {
+        final Entry entry = new Entry(product, nanoClock.getAsLong());
+        synchronized (loadOrder) {
+            // Removing first moves a reloaded id to the back
+            loadOrder.remove(id);
+            loadOrder.put(id, entry);
+            entries.put(id, entry);
+            final Iterator<String> oldest = loadOrder.keySet().iterator();
+            while (loadOrder.size() > maxSize) {
+                entries.remove(oldest.next());
+                oldest.remove();
+            }
+        }
+    }
+
+    private static Product join(CompletableFuture<Product> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(Product product, long loadedAt) {
+    }
+}
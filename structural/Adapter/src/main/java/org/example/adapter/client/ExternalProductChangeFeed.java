@@ -0,0 +1,8 @@
+package org.example.adapter.client;
+
+import org.example.adapter.model.ExternalProductChangeBatch;
+
+public interface ExternalProductChangeFeed {
+    // A null cursor starts from the beginning of the vendor's change log
+    ExternalProductChangeBatch fetchChanges(String cursor, int limit);
+}
@@ -0,0 +1,8 @@
+package org.example.adapter.client;
+
+import org.example.adapter.model.ExternalProduct;
+
+public interface ExternalProductClient {
+    // Throws ExternalProductNotFoundException for unknown ids and ExternalApiException when the vendor fails
+    ExternalProduct fetchProduct(String productId);
+}
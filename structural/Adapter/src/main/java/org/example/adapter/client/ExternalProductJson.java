@@ -0,0 +1,25 @@
+package org.example.adapter.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.adapter.exception.ExternalApiException;
+import org.example.adapter.model.ExternalProduct;
+
+// Reads the vendor's {"productName":...,"cost":...,"details":...} object shared by the HTTP clients
+final class ExternalProductJson {
+
+    private ExternalProductJson() {
+    }
+
+    // A missing or non-numeric cost is rejected rather than read as 0.0, which would be cached and served
+    static ExternalProduct read(JsonNode node) {
+        final JsonNode cost = node.path("cost");
+        if (!cost.isNumber() || !Double.isFinite(cost.asDouble())) {
+            throw new ExternalApiException("External product has a missing or non-numeric cost: " + cost);
+        }
+        return new ExternalProduct(
+                node.path("productName").asText(null),
+                cost.asDouble(),
+                node.path("details").asText(null)
+        );
+    }
+}
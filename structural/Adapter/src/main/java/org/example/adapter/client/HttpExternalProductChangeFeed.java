@@ -0,0 +1,83 @@
+package org.example.adapter.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.adapter.exception.ExternalApiException;
+import org.example.adapter.model.ExternalProductChange;
+import org.example.adapter.model.ExternalProductChangeBatch;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// GET {baseUrl}/products/changes?cursor=..&limit=.. returning
+// {"changes":[{"productId":..,"version":..,"product":{..} or null}],"nextCursor":..,"hasMore":..}
+public class HttpExternalProductChangeFeed implements ExternalProductChangeFeed {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    public HttpExternalProductChangeFeed(String baseUrl, Duration timeout) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public ExternalProductChangeBatch fetchChanges(String cursor, int limit) {
+        final String query = "?limit=" + limit + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/products/changes" + query))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        final HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ExternalApiException("External product change feed call failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("External product change feed call interrupted", e);
+        }
+        if (response.statusCode() != 200) {
+            throw new ExternalApiException("External product change feed returned " + response.statusCode());
+        }
+
+        try {
+            final JsonNode root = OBJECT_MAPPER.readTree(response.body());
+            final List<ExternalProductChange> changes = new ArrayList<>();
+            for (JsonNode change : root.path("changes")) {
+                changes.add(readChange(change));
+            }
+            return new ExternalProductChangeBatch(changes, root.path("nextCursor").asText(cursor), root.path("hasMore").asBoolean());
+        } catch (IOException e) {
+            throw new ExternalApiException("External product change feed returned malformed JSON", e);
+        }
+    }
+
+    // One unreadable product must not fail the whole batch, so it comes back as a rejected change
+    private static ExternalProductChange readChange(JsonNode change) {
+        final String productId = change.path("productId").asText();
+        final long version = change.path("version").asLong();
+        final JsonNode product = change.path("product");
+        if (!product.isObject()) {
+            return new ExternalProductChange(productId, version, null);
+        }
+        try {
+            return new ExternalProductChange(productId, version, ExternalProductJson.read(product));
+        } catch (ExternalApiException e) {
+            return ExternalProductChange.rejected(productId, version, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.adapter.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.adapter.exception.ExternalApiException;
+import org.example.adapter.exception.ExternalProductNotFoundException;
+import org.example.adapter.model.ExternalProduct;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+// GET {baseUrl}/products/{id} returning {"productName":...,"cost":...,"details":...}
+public class HttpExternalProductClient implements ExternalProductClient {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    public HttpExternalProductClient(String baseUrl, Duration timeout) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public ExternalProduct fetchProduct(String productId) {
+        final HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/products/" + URLEncoder.encode(productId, StandardCharsets.UTF_8)))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        final HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ExternalApiException("External product API call failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("External product API call interrupted", e);
+        }
+
+        if (response.statusCode() == 404) {
+            throw new ExternalProductNotFoundException("External product %s not found".formatted(productId));
+        }
+        if (response.statusCode() != 200) {
+            throw new ExternalApiException("External product API returned " + response.statusCode());
+        }
+        try {
+            return ExternalProductJson.read(OBJECT_MAPPER.readTree(response.body()));
+        } catch (IOException e) {
+            throw new ExternalApiException("External product API returned malformed JSON", e);
+        }
+    }
+}
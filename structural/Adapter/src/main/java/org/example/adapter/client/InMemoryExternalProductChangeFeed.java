@@ -0,0 +1,24 @@
+package org.example.adapter.client;
+
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.ExternalProductChange;
+import org.example.adapter.model.ExternalProductChangeBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Append-only change log standing in for the vendor feed when no base URL is configured; the cursor is a log offset
+public class InMemoryExternalProductChangeFeed implements ExternalProductChangeFeed {
+    private final List<ExternalProductChange> log = new ArrayList<>();
+
+    public synchronized void publish(String productId, ExternalProduct product) {
+        log.add(new ExternalProductChange(productId, log.size() + 1L, product));
+    }
+
+    @Override
+    public synchronized ExternalProductChangeBatch fetchChanges(String cursor, int limit) {
+        final int from = cursor == null ? 0 : Integer.parseInt(cursor);
+        final int to = Math.min(log.size(), from + limit);
+        return new ExternalProductChangeBatch(List.copyOf(new ArrayList<>(log.subList(from, to))), String.valueOf(to), to < log.size());
+    }
+}
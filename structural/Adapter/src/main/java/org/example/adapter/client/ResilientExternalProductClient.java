@@ -0,0 +1,69 @@
+package org.example.adapter.client;
+
+import org.example.adapter.exception.ExternalApiException;
+import org.example.adapter.model.ExternalProduct;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards the vendor client with a bulkhead (a bounded number of concurrent calls, so a slow vendor
+ * cannot take every request thread) and a circuit breaker (fail fast while the vendor is down).
+ */
+public class ResilientExternalProductClient implements ExternalProductClient {
+    private final ExternalProductClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+
+    public ResilientExternalProductClient(ExternalProductClient delegate, CircuitBreaker circuitBreaker,
+                                          int maxConcurrentCalls, long maxWaitMillis) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public ExternalProduct fetchProduct(String productId) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ExternalApiException("External product API circuit is open");
+        }
+        if (!acquirePermit()) {
+            // Not the vendor's fault, so it is not counted as a failure
+            circuitBreaker.onRejected();
+            throw new ExternalApiException("External product API bulkhead is full");
+        }
+        boolean reported = false;
+        try {
+            final ExternalProduct product = delegate.fetchProduct(productId);
+            reported = true;
+            circuitBreaker.onSuccess();
+            return product;
+        } catch (ExternalApiException e) {
+            reported = true;
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            // Not found and similar answers mean the vendor is healthy
+            reported = true;
+            circuitBreaker.onSuccess();
+            throw e;
+        } finally {
+            bulkhead.release();
+            if (!reported) {
+                // An Error says nothing about the vendor, but a half-open trial must not stay taken
+                circuitBreaker.onRejected();
+            }
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.adapter.client;
+
+import org.example.adapter.exception.ExternalProductNotFoundException;
+import org.example.adapter.model.ExternalProduct;
+
+import java.util.Map;
+
+// Used when no vendor base URL is configured
+public class StubExternalProductClient implements ExternalProductClient {
+    public static final String DEFAULT_PRODUCT_ID = "external";
+
+    private final Map<String, ExternalProduct> products = Map.of(
+            DEFAULT_PRODUCT_ID, new ExternalProduct(
+                    "external name",
+                    101.1,
+                    "external product details"
+            )
+    );
+
+    @Override
+    public ExternalProduct fetchProduct(String productId) {
+        final ExternalProduct product = products.get(productId);
+        if (product == null) {
+            throw new ExternalProductNotFoundException("External product %s not found".formatted(productId));
+        }
+        return product;
+    }
+}
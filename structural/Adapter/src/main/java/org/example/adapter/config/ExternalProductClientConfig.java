@@ -0,0 +1,102 @@
+package org.example.adapter.config;
+
+import org.example.adapter.cache.ProductCache;
+import org.example.adapter.client.CircuitBreaker;
+import org.example.adapter.client.ExternalProductChangeFeed;
+import org.example.adapter.client.ExternalProductClient;
+import org.example.adapter.client.HttpExternalProductChangeFeed;
+import org.example.adapter.client.HttpExternalProductClient;
+import org.example.adapter.client.InMemoryExternalProductChangeFeed;
+import org.example.adapter.client.ResilientExternalProductClient;
+import org.example.adapter.client.StubExternalProductClient;
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.store.ProductStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableScheduling
+public class ExternalProductClientConfig {
+
+    @Bean
+    public ExternalProductClient externalProductClient(
+            @Value("${external.product.api.base-url:}") String baseUrl,
+            @Value("${external.product.api.timeout-ms}") long timeoutMillis,
+            @Value("${external.product.circuit.failure-threshold}") int failureThreshold,
+            @Value("${external.product.circuit.open-ms}") long openMillis,
+            @Value("${external.product.bulkhead.max-concurrent}") int maxConcurrent,
+            @Value("${external.product.bulkhead.max-wait-ms}") long maxWaitMillis) {
+        // Without a vendor URL there is nothing remote to protect
+        if (baseUrl.isBlank()) {
+            return new StubExternalProductClient();
+        }
+        return new ResilientExternalProductClient(
+                new HttpExternalProductClient(baseUrl, Duration.ofMillis(timeoutMillis)),
+                new CircuitBreaker(failureThreshold, TimeUnit.MILLISECONDS.toNanos(openMillis), System::nanoTime),
+                maxConcurrent,
+                maxWaitMillis
+        );
+    }
+
+    @Bean
+    public ExternalProductChangeFeed externalProductChangeFeed(
+            @Value("${external.product.api.base-url:}") String baseUrl,
+            @Value("${external.product.api.timeout-ms}") long timeoutMillis) {
+        if (baseUrl.isBlank()) {
+            final InMemoryExternalProductChangeFeed feed = new InMemoryExternalProductChangeFeed();
+            feed.publish(StubExternalProductClient.DEFAULT_PRODUCT_ID, new ExternalProduct(
+                    "external name",
+                    101.1,
+                    "external product details"
+            ));
+            return feed;
+        }
+        return new HttpExternalProductChangeFeed(baseUrl, Duration.ofMillis(timeoutMillis));
+    }
+
+    @Bean
+    public ProductStore productStore() {
+        return new ProductStore();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService productRefreshExecutor() {
+        return Executors.newFixedThreadPool(2, runnable -> {
+            final Thread thread = new Thread(runnable, "product-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService productAggregationExecutor(@Value("${product.aggregation.threads}") int threads) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "product-aggregation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public ProductCache productCache(
+            @Qualifier("productRefreshExecutor") ExecutorService productRefreshExecutor,
+            @Value("${external.product.cache.ttl-ms}") long ttlMillis,
+            @Value("${external.product.cache.stale-ms}") long staleMillis,
+            @Value("${external.product.cache.max-size}") int maxSize) {
+        return new ProductCache(
+                TimeUnit.MILLISECONDS.toNanos(ttlMillis),
+                TimeUnit.MILLISECONDS.toNanos(staleMillis),
+                maxSize,
+                productRefreshExecutor,
+                System::nanoTime
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.adapter.config;
+
+import org.example.adapter.model.PricePolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.RoundingMode;
+
+@Configuration
+public class PricingConfig {
+
+    @Bean
+    public PricePolicy pricePolicy(@Value("${product.price.currency}") String currency,
+                                   @Value("${product.price.rounding}") RoundingMode roundingMode) {
+        return PricePolicy.of(currency, roundingMode);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.adapter.config;
+
+import org.example.adapter.json.ProductHttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${product.json.cache-encoded}")
+    private boolean cacheEncoded;
+
+    @Value("${product.json.cache-max-size}")
+    private int cacheMaxSize;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of Jackson, which would otherwise pick up Product responses
+        converters.add(0, new ProductHttpMessageConverter(cacheEncoded ? cacheMaxSize : 0));
+    }
+}
@@ -1,20 +1,48 @@
 package org.example.adapter.controller;
 
+import org.example.adapter.model.AggregatedProducts;
 import org.example.adapter.model.Product;
+import org.example.adapter.service.ProductAggregationService;
 import org.example.adapter.service.ProductService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @RestController
 @RequestMapping("/products")
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductAggregationService productAggregationService;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductAggregationService productAggregationService) {
         this.productService = productService;
+        this.productAggregationService = productAggregationService;
+    }
+
+    // Queries the locally synced vendor catalog: by name prefix, or by price range when no prefix is given
+    @GetMapping
+    public ResponseEntity<List<Product>> findProducts(
+            @RequestParam(value = "namePrefix", required = false) String namePrefix,
+            @RequestParam(value = "minPrice", defaultValue = "0") BigDecimal minPrice,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        if (limit < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (namePrefix != null) {
+            return ResponseEntity.ok(productService.findByNamePrefix(namePrefix, limit));
+        }
+        if (maxPrice == null || minPrice.compareTo(maxPrice) > 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(productService.findByPriceRange(minPrice, maxPrice, limit));
     }
 
     @GetMapping("/external")
@@ -22,4 +50,15 @@ public class ProductController {
         final Product product = productService.getProductFromExternalAPI();
         return ResponseEntity.ok(product);
     }
+
+    @GetMapping("/external/{id}")
+    public ResponseEntity<Product> getExternalProduct(@PathVariable String id) {
+        final Product product = productService.getProductFromExternalAPI(id);
+        return ResponseEntity.ok(product);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<AggregatedProducts> searchProducts(@RequestParam("q") String query) {
+        return ResponseEntity.ok(productAggregationService.findProducts(query));
+    }
 }
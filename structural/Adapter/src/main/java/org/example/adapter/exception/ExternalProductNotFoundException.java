@@ -0,0 +1,11 @@
+package org.example.adapter.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ExternalProductNotFoundException extends RuntimeException {
+    public ExternalProductNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.adapter.exception;
+
+public class FeedParseException extends RuntimeException {
+    public FeedParseException(String message) {
+        super(message);
+    }
+
+    public FeedParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.adapter.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.adapter.exception.FeedParseException;
+import org.example.adapter.model.ExternalProduct;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an external product feed one record at a time, so only the current record is held in memory.
+ * A quoted CSV field may span lines; errors report the line the record starts on. A record longer than
+ * the configured maximum fails once that many characters have been read, so neither an unterminated
+ * quote nor a line without a newline can buffer the rest of the feed. Not thread-safe.
+ */
+public class ExternalProductFeedReader implements Iterator<ExternalProduct>, Closeable {
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final String CSV_HEADER = "productName,cost,details";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Reader reader;
+    private final FeedFormat format;
+    private final int maxRecordLength;
+    private final char[] chunk = new char[8192];
+    private int chunkPosition;
+    private int chunkLimit;
+    private final StringBuilder record = new StringBuilder();
+    private ExternalProduct next;
+    private long lineNumber;
+    private long recordLineNumber;
+
+    public ExternalProductFeedReader(InputStream inputStream, FeedFormat format) {
+        this(inputStream, format, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    public ExternalProductFeedReader(InputStream inputStream, FeedFormat format, int maxRecordLength) {
+        if (maxRecordLength <= 0) {
+            throw new IllegalArgumentException("maxRecordLength must be positive: " + maxRecordLength);
+        }
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.format = format;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ExternalProduct next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final ExternalProduct product = next;
+        next = null;
+        return product;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ExternalProduct readNext() {
+        try {
+            while (true) {
+                record.setLength(0);
+                recordLineNumber = lineNumber + 1;
+                if (!appendLine()) {
+                    return null;
+                }
+                if (isBlank(record) || (lineNumber == 1 && format == FeedFormat.CSV && record.toString().strip().equals(CSV_HEADER))) {
+                    continue;
+                }
+                if (format == FeedFormat.CSV) {
+                    completeCsvRecord();
+                    return parseCsv(record.toString());
+                }
+                return parseJson(record.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Appends following lines while a quoted field is still open; escaped quotes come in pairs
+    private void completeCsvRecord() throws IOException {
+        int quotes = countQuotes(record, 0);
+        while (quotes % 2 != 0) {
+            final int continuation = record.length() + 1;
+            append('\n');
+            if (!appendLine()) {
+                throw error("unterminated quoted field", null);
+            }
+            quotes += countQuotes(record, continuation);
+        }
+    }
+
+    // Appends the next line without its terminator to the record; false at the end of the feed
+    private boolean appendLine() throws IOException {
+        if (chunkPosition == chunkLimit && !fill()) {
+            return false;
+        }
+        while (true) {
+            int end = chunkPosition;
+            while (end < chunkLimit && chunk[end] != '\n') {
+                end++;
+            }
+            final boolean terminated = end < chunkLimit;
+            if (record.length() + (end - chunkPosition) > maxRecordLength) {
+                throw error("record exceeds " + maxRecordLength + " characters", null);
+            }
+            record.append(chunk, chunkPosition, end - chunkPosition);
+            chunkPosition = terminated ? end + 1 : end;
+            if (terminated || !fill()) {
+                break;
+            }
+        }
+        lineNumber++;
+        final int last = record.length() - 1;
+        if (last >= 0 && record.charAt(last) == '\r') {
+            record.setLength(last);
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        if (record.length() >= maxRecordLength) {
+            throw error("record exceeds " + maxRecordLength + " characters", null);
+        }
+        record.append(c);
+    }
+
+    private boolean fill() throws IOException {
+        final int read = reader.read(chunk, 0, chunk.length);
+        chunkPosition = 0;
+        chunkLimit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private static boolean isBlank(CharSequence line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countQuotes(CharSequence line, int from) {
+        int quotes = 0;
+        for (int i = from; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes;
+    }
+
+    private ExternalProduct parseCsv(String line) {
+        final List<String> fields = splitCsv(line);
+        if (fields.size() != 3) {
+            throw error("expected 3 fields but got " + fields.size(), null);
+        }
+        return new ExternalProduct(fields.get(0), parseCost(fields.get(1).strip()), fields.get(2));
+    }
+
+    private ExternalProduct parseJson(String line) {
+        final JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw error("malformed JSON", e);
+        }
+        final JsonNode cost = node.get("cost");
+        if (cost == null || !cost.isNumber() || !Double.isFinite(cost.asDouble())) {
+            throw error("missing numeric cost", null);
+        }
+        return new ExternalProduct(node.path("productName").asText(null), cost.asDouble(), node.path("details").asText(null));
+    }
+
+    private List<String> splitCsv(String line) {
+        final List<String> fields = new ArrayList<>(3);
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw error("unterminated quoted field", null);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // NaN and infinities parse as doubles but have no price, so they are rejected here with the line number
+    private double parseCost(String value) {
+        final double cost;
+        try {
+            cost = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw error("invalid cost '" + value + "'", e);
+        }
+        if (!Double.isFinite(cost)) {
+            throw error("invalid cost '" + value + "'", null);
+        }
+        return cost;
+    }
+
+    private FeedParseException error(String reason, Throwable cause) {
+        return new FeedParseException("Feed line %d: %s".formatted(recordLineNumber, reason), cause);
+    }
+}
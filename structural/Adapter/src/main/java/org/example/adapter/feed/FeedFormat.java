@@ -0,0 +1,8 @@
+package org.example.adapter.feed;
+
+public enum FeedFormat {
+    // productName,cost,details with an optional header row; quoted fields may contain commas and "" escapes
+    CSV,
+    // one {"productName":...,"cost":...,"details":...} object per line
+    JSON_LINES
+}
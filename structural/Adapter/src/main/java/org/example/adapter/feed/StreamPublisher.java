@@ -0,0 +1,121 @@
+package org.example.adapter.feed;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Pull-based publisher: each subscriber opens its own stream and elements are only read from it
+ * when the subscriber has requested them, so a slow consumer never causes buffering.
+ * Only the draining thread touches the stream: cancel() and invalid requests just leave a signal for
+ * it, so the stream is never closed while another thread is reading from it.
+ */
+public class StreamPublisher<T> implements Flow.Publisher<T> {
+    private final Supplier<Stream<T>> source;
+
+    public StreamPublisher(Supplier<Stream<T>> source) {
+        this.source = source;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        final Stream<T> stream;
+        try {
+            stream = source.get();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(e);
+            return;
+        }
+        final StreamSubscription<T> subscription = new StreamSubscription<>(subscriber, stream);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final class StreamSubscription<T> implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Stream<T> stream;
+        private final Iterator<T> iterator;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+
+        private StreamSubscription(Flow.Subscriber<? super T> subscriber, Stream<T> stream) {
+            this.subscriber = subscriber;
+            this.stream = stream;
+            this.iterator = stream.iterator();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " elements, must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        // Only one thread emits at a time; re-entrant requests from onNext just add demand
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                try {
+                    emit();
+                } catch (RuntimeException e) {
+                    terminate(e);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!done) {
+                if (cancelled) {
+                    done = true;
+                    stream.close();
+                } else if (invalidRequest != null) {
+                    terminate(invalidRequest);
+                } else if (!iterator.hasNext()) {
+                    done = true;
+                    stream.close();
+                    subscriber.onComplete();
+                } else if (demand.get() == 0) {
+                    return;
+                } else {
+                    demand.decrementAndGet();
+                    subscriber.onNext(iterator.next());
+                }
+            }
+        }
+
+        private void terminate(Throwable error) {
+            if (!done) {
+                done = true;
+                stream.close();
+                subscriber.onError(error);
+            }
+        }
+    }
+}
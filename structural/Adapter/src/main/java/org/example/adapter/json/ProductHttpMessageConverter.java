@@ -0,0 +1,104 @@
+package org.example.adapter.json;
+
+import org.example.adapter.model.Product;
+import org.example.adapter.model.VersionedProduct;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes Product responses with {@link ProductJsonWriter} instead of Jackson, encoding each response once.
+ * Optionally keeps the encoded bytes of stored products, keyed by product id and valid for one version,
+ * so a product served repeatedly is encoded once until it changes. Lookups never lock; at
+ * {@code maxCached} entries the least recently encoded one is dropped. Products without a version, e.g.
+ * vendor responses from ProductCache, are encoded on every response.
+ */
+public class ProductHttpMessageConverter extends AbstractHttpMessageConverter<Product> {
+    private final int maxCached;
+    private final Map<String, Encoded> encoded = new ConcurrentHashMap<>();
+    // Same entries in encoding order; only touched on a miss
+    private final LinkedHashMap<String, Encoded> encodeOrder = new LinkedHashMap<>();
+
+    public ProductHttpMessageConverter() {
+        this(0);
+    }
+
+    // maxCached 0 turns the encoded cache off
+    public ProductHttpMessageConverter(int maxCached) {
+        super(MediaType.APPLICATION_JSON);
+        if (maxCached < 0) {
+            throw new IllegalArgumentException("Max cached must not be negative: " + maxCached);
+        }
+        this.maxCached = maxCached;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Product.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Product readInternal(Class<? extends Product> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Products are not read from request bodies", inputMessage);
+    }
+
+    // Measured without encoding when the bytes are not cached, so the product is still encoded only once
+    @Override
+    protected Long getContentLength(Product product, MediaType contentType) {
+        final byte[] bytes = cachedJson(product);
+        return (long) (bytes == null ? ProductJsonWriter.encodedLength(product) : bytes.length);
+    }
+
+    @Override
+    protected void writeInternal(Product product, HttpOutputMessage outputMessage) throws IOException {
+        final byte[] bytes = cachedJson(product);
+        outputMessage.getBody().write(bytes == null ? ProductJsonWriter.toJson(product) : bytes);
+    }
+
+    public int cachedCount() {
+        return encoded.size();
+    }
+
+    // Encoded bytes of a versioned product, encoding and caching them on a miss; null if not cacheable
+    private byte[] cachedJson(Product product) {
+        if (maxCached == 0 || !(product instanceof VersionedProduct versioned)) {
+            return null;
+        }
+        final Encoded hit = encoded.get(versioned.productId());
+        if (hit != null && hit.version() == versioned.version()) {
+            return hit.json();
+        }
+        final Encoded miss = new Encoded(versioned.version(), ProductJsonWriter.toJson(product));
+        synchronized (encodeOrder) {
+            final Encoded current = encodeOrder.get(versioned.productId());
+            // A response racing a sync may still hold the older version; it must not replace the newer bytes
+            if (current == null || current.version() < miss.version()) {
+                encodeOrder.remove(versioned.productId());
+                encodeOrder.put(versioned.productId(), miss);
+                encoded.put(versioned.productId(), miss);
+                if (encodeOrder.size() > maxCached) {
+                    final Iterator<String> eldest = encodeOrder.keySet().iterator();
+                    encoded.remove(eldest.next());
+                    eldest.remove();
+                }
+            }
+        }
+        return miss.json();
+    }
+
+    private record Encoded(long version, byte[] json) {
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.adapter.json;
+
+import org.example.adapter.model.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Hand-rolled encoder for the three Product fields, producing the same JSON values as Jackson's default
+ * bean serialization (fields in Product declaration order) but straight into UTF-8 bytes, without
+ * introspection or intermediate strings.
+ */
+public final class ProductJsonWriter {
+    private static final byte[] NAME = bytes("{\"name\":");
+    private static final byte[] PRICE = bytes(",\"price\":");
+    private static final byte[] DESCRIPTION = bytes(",\"description\":");
+    private static final byte[] NULL = bytes("null");
+    private static final byte[] HEX = bytes("0123456789abcdef");
+
+    private byte[] buffer;
+    private int size;
+
+    private ProductJsonWriter(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    public static byte[] toJson(Product product) {
+        final ProductJsonWriter writer = new ProductJsonWriter(64 + length(product.getName()) + length(product.getDescription()));
+        writer.write(NAME);
+        writer.writeString(product.getName());
+        writer.write(PRICE);
+        writer.writeNumber(product.getPrice());
+        writer.write(DESCRIPTION);
+        writer.writeString(product.getDescription());
+        writer.writeByte('}');
+        return writer.buffer.length == writer.size ? writer.buffer : Arrays.copyOf(writer.buffer, writer.size);
+    }
+
+    // Exact size of toJson(product) without encoding it; BigDecimal keeps its string form once computed
+    public static int encodedLength(Product product) {
+        return NAME.length + PRICE.length + DESCRIPTION.length + 1
+                + stringLength(product.getName()) + numberLength(product.getPrice()) + stringLength(product.getDescription());
+    }
+
+    private static int numberLength(BigDecimal value) {
+        return value == null ? NULL.length : value.toString().length();
+    }
+
+    // Mirrors writeString byte for byte
+    private static int stringLength(String value) {
+        if (value == null) {
+            return NULL.length;
+        }
+        int length = 2;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                length += 2;
+            } else if (c < 0x20) {
+                length += c == '\n' || c == '\r' || c == '\t' || c == '\b' || c == '\f' ? 2 : 6;
+            } else if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                i++;
+                length += 4;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private void writeNumber(BigDecimal value) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        // BigDecimal.toString() is what Jackson writes unless WRITE_BIGDECIMAL_AS_PLAIN is enabled
+        final String text = value.toString();
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[size++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        ensureCapacity(value.length() * 6 + 2);
+        buffer[size++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer[size++] = '\\';
+                buffer[size++] = (byte) c;
+            } else if (c < 0x20) {
+                writeControl(c);
+            } else if (c < 0x80) {
+                buffer[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[size++] = (byte) (0xc0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[size++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate: not encodable in UTF-8
+                buffer[size++] = '?';
+            } else {
+                buffer[size++] = (byte) (0xe0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[size++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        buffer[size++] = '"';
+    }
+
+    private void writeControl(char c) {
+        buffer[size++] = '\\';
+        switch (c) {
+            case '\n' -> buffer[size++] = 'n';
+            case '\r' -> buffer[size++] = 'r';
+            case '\t' -> buffer[size++] = 't';
+            case '\b' -> buffer[size++] = 'b';
+            case '\f' -> buffer[size++] = 'f';
+            default -> {
+                buffer[size++] = 'u';
+                buffer[size++] = '0';
+                buffer[size++] = '0';
+                buffer[size++] = HEX[c >> 4];
+                buffer[size++] = HEX[c & 0xf];
+            }
+        }
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+
+    private static int length(String value) {
+        return value == null ? 4 : value.length() + 2;
+    }
+
+    private static byte[] bytes(String ascii) {
+        return ascii.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.adapter.model;
+
+import java.util.List;
+
+// failedSources lists vendors that errored or missed their deadline; products holds everything else
+public record AggregatedProducts(List<Product> products, List<String> failedSources) {
+}
@@ -0,0 +1,41 @@
+package org.example.adapter.model;
+
+import org.example.adapter.mapping.GenerateAdapter;
+import org.example.adapter.mapping.Mapping;
+
+// Product shape of the second vendor: prices in cents and a SKU instead of free-form details.
+// CatalogItemProductAdapter is generated from the mappings below.
+@GenerateAdapter(target = Product.class, mappings = {
+        @Mapping(target = "name", source = "title"),
+        @Mapping(target = "price", source = "priceCents", scale = 2),
+        @Mapping(target = "description", source = "summary")
+})
+public class CatalogItem {
+    private final String sku;
+    private final String title;
+    private final long priceCents;
+    private final String summary;
+
+    public CatalogItem(String sku, String title, long priceCents, String summary) {
+        this.sku = sku;
+        this.title = title;
+        this.priceCents = priceCents;
+        this.summary = summary;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long getPriceCents() {
+        return priceCents;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+}
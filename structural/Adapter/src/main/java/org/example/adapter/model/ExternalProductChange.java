@@ -0,0 +1,21 @@
+package org.example.adapter.model;
+
+// product is null when the vendor deleted the product; version orders changes to the same product.
+// rejection is set instead of product when the vendor's record could not be read
+public record ExternalProductChange(String productId, long version, ExternalProduct product, String rejection) {
+    public ExternalProductChange(String productId, long version, ExternalProduct product) {
+        this(productId, version, product, null);
+    }
+
+    public static ExternalProductChange rejected(String productId, long version, String rejection) {
+        return new ExternalProductChange(productId, version, null, rejection);
+    }
+
+    public boolean isDeleted() {
+        return product == null && rejection == null;
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+}
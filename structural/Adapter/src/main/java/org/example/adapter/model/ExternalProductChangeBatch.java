@@ -0,0 +1,7 @@
+package org.example.adapter.model;
+
+import java.util.List;
+
+// nextCursor is passed to the next fetch; hasMore means another batch is ready right away
+public record ExternalProductChangeBatch(List<ExternalProductChange> changes, String nextCursor, boolean hasMore) {
+}
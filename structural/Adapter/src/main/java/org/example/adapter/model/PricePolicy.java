@@ -0,0 +1,35 @@
+package org.example.adapter.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * How an external {@code double} cost becomes a price in an explicit currency. The cost is read through
+ * its shortest decimal representation (101.1 stays 101.1, not 101.09999...) and rounded to the currency's
+ * minor units with the given rounding mode, so every price of a policy has the same scale.
+ */
+public record PricePolicy(Currency currency, RoundingMode roundingMode) {
+    public static final PricePolicy DEFAULT = of("USD", RoundingMode.HALF_EVEN);
+
+    public PricePolicy {
+        Objects.requireNonNull(currency, "currency");
+        Objects.requireNonNull(roundingMode, "roundingMode");
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency " + currency + " has no minor units");
+        }
+    }
+
+    public static PricePolicy of(String currencyCode, RoundingMode roundingMode) {
+        return new PricePolicy(Currency.getInstance(currencyCode), roundingMode);
+    }
+
+    public int scale() {
+        return currency.getDefaultFractionDigits();
+    }
+
+    public BigDecimal toPrice(double cost) {
+        return BigDecimal.valueOf(cost).setScale(scale(), roundingMode);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.adapter.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+
+// A product as stored at one version of the vendor catalog; serialized as the plain Product it wraps
+@JsonSerialize(as = Product.class)
+public record VersionedProduct(String productId, long version, Product product) implements Product {
+
+    @Override
+    public String getName() {
+        return product.getName();
+    }
+
+    @Override
+    public BigDecimal getPrice() {
+        return product.getPrice();
+    }
+
+    @Override
+    public String getDescription() {
+        return product.getDescription();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.adapter.service;
+
+import org.example.adapter.model.CatalogItem;
+import org.example.adapter.model.CatalogItemProductAdapter;
+import org.example.adapter.model.Product;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CatalogItemAdapterFactory implements ProductAdapterFactory<CatalogItem> {
+
+    @Override
+    public Class<CatalogItem> getSourceType() {
+        return CatalogItem.class;
+    }
+
+    @Override
+    public Product adapt(CatalogItem source) {
+        return new CatalogItemProductAdapter(source);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.adapter.service;
+
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.model.Product;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExternalProductAdapterFactory implements ProductAdapterFactory<ExternalProduct> {
+    private final PricePolicy pricePolicy;
+
+    public ExternalProductAdapterFactory(PricePolicy pricePolicy) {
+        this.pricePolicy = pricePolicy;
+    }
+
+    @Override
+    public Class<ExternalProduct> getSourceType() {
+        return ExternalProduct.class;
+    }
+
+    @Override
+    public Product adapt(ExternalProduct source) {
+        return new ProductAdapter(source, pricePolicy);
+    }
+}
@@ -1,16 +1,38 @@
 package org.example.adapter.service;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.PricePolicy;
 import org.example.adapter.model.Product;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 
+// Serialized through the Product interface, so the primitive price accessors stay out of the API
+@JsonSerialize(as = Product.class)
 public class ProductAdapter implements Product {
 
     private final ExternalProduct externalProduct;
+    private final Currency currency;
+    // Converted once here instead of on every getPrice() call
+    private final BigDecimal price;
+    private final long priceMinorUnits;
+    private final int priceScale;
 
     public ProductAdapter(ExternalProduct externalProduct) {
+        this(externalProduct, PricePolicy.DEFAULT);
+    }
+
+    public ProductAdapter(ExternalProduct externalProduct, PricePolicy pricePolicy) {
         this.externalProduct = externalProduct;
+        this.currency = pricePolicy.currency();
+        this.price = pricePolicy.toPrice(externalProduct.getCost());
+        this.priceScale = pricePolicy.scale();
+        try {
+            this.priceMinorUnits = price.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Price " + price + " does not fit in minor units of " + currency, e);
+        }
     }
 
     @Override
@@ -20,11 +42,24 @@ public class ProductAdapter implements Product {
 
     @Override
     public BigDecimal getPrice() {
-        return BigDecimal.valueOf(externalProduct.getCost());
+        return price;
     }
 
     @Override
     public String getDescription() {
         return externalProduct.getDetails();
     }
+
+    // Price as a whole number of the currency's minor units, e.g. cents for USD; priceScale is their digit count
+    public long getPriceMinorUnits() {
+        return priceMinorUnits;
+    }
+
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
 }
@@ -0,0 +1,10 @@
+package org.example.adapter.service;
+
+import org.example.adapter.model.Product;
+
+// One implementation per vendor record type; registered beans are picked up by ProductAdapterRegistry
+public interface ProductAdapterFactory<T> {
+    Class<T> getSourceType();
+
+    Product adapt(T source);
+}
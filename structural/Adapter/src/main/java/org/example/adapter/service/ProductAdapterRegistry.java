@@ -0,0 +1,30 @@
+package org.example.adapter.service;
+
+import org.example.adapter.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class ProductAdapterRegistry {
+    private final Map<Class<?>, ProductAdapterFactory<?>> factories = new HashMap<>();
+
+    public ProductAdapterRegistry(List<ProductAdapterFactory<?>> factories) {
+        for (ProductAdapterFactory<?> factory : factories) {
+            if (this.factories.putIfAbsent(factory.getSourceType(), factory) != null) {
+                throw new IllegalStateException("Duplicate product adapter for " + factory.getSourceType().getName());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Product adapt(T source) {
+        final ProductAdapterFactory<T> factory = (ProductAdapterFactory<T>) factories.get(source.getClass());
+        if (factory == null) {
+            throw new IllegalArgumentException("No product adapter registered for " + source.getClass().getName());
+        }
+        return factory.adapt(source);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.adapter.service;
+
+import org.example.adapter.model.AggregatedProducts;
+import org.example.adapter.model.Product;
+import org.example.adapter.vendor.ProductSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Queries every vendor source in parallel. Each source gets its own deadline, so the response time is
+ * bounded by the slowest source within that deadline rather than the sum of all sources; sources that
+ * fail or time out are reported and the rest is returned. A source that misses the deadline is
+ * interrupted, so it does not keep a pool thread busy after its result has been given up.
+ */
+@Service
+public class ProductAggregationService {
+    private final List<ProductSource> sources;
+    private final ProductAdapterRegistry adapterRegistry;
+    private final ExecutorService executor;
+    private final Duration sourceTimeout;
+
+    public ProductAggregationService(List<ProductSource> sources,
+                                     ProductAdapterRegistry adapterRegistry,
+                                     @Qualifier("productAggregationExecutor") ExecutorService executor,
+                                     @Value("${product.aggregation.source-timeout-ms}") long sourceTimeoutMillis) {
+        this.sources = sources;
+        this.adapterRegistry = adapterRegistry;
+        this.executor = executor;
+        this.sourceTimeout = Duration.ofMillis(sourceTimeoutMillis);
+    }
+
+    public AggregatedProducts findProducts(String nameQuery) {
+        final long deadline = System.nanoTime() + sourceTimeout.toNanos();
+        final List<Future<List<Product>>> futures = new ArrayList<>(sources.size());
+        for (ProductSource source : sources) {
+            futures.add(executor.submit(() -> adaptAll(source.findProducts(nameQuery))));
+        }
+
+        // Keyed by normalized name: the same product from several vendors is kept once, at the lowest price
+        final Map<String, Product> merged = new LinkedHashMap<>();
+        final List<String> failedSources = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            final List<Product> products = await(futures.get(i), deadline);
+            if (products == null) {
+                failedSources.add(sources.get(i).getName());
+                continue;
+            }
+            for (Product product : products) {
+                // Without a name a product can be neither merged nor sorted, so a bad vendor row is dropped
+                if (product.getName() != null) {
+                    merged.merge(product.getName().strip().toLowerCase(Locale.ROOT), product, ProductAggregationService::cheaper);
+                }
+            }
+        }
+
+        final List<Product> products = new ArrayList<>(merged.values());
+        products.sort(Comparator.comparing(Product::getName, String.CASE_INSENSITIVE_ORDER));
+        return new AggregatedProducts(products, failedSources);
+    }
+
+    // Null when the source failed or missed the deadline; a late source is interrupted
+    private static List<Product> await(Future<List<Product>> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // A product without a price never replaces one with a price
+    private static Product cheaper(Product current, Product candidate) {
+        if (candidate.getPrice() == null) {
+            return current;
+        }
+        return current.getPrice() == null || candidate.getPrice().compareTo(current.getPrice()) < 0 ? candidate : current;
+    }
+
+    private List<Product> adaptAll(List<?> records) {
+        final List<Product> products = new ArrayList<>(records.size());
+        for (Object record : records) {
+            products.add(adapterRegistry.adapt(record));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.adapter.service;
+
+import org.example.adapter.feed.ExternalProductFeedReader;
+import org.example.adapter.feed.FeedFormat;
+import org.example.adapter.feed.StreamPublisher;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.model.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Service
+public class ProductFeedService {
+    private final PricePolicy pricePolicy;
+    private final int maxRecordLength;
+
+    public ProductFeedService(PricePolicy pricePolicy, @Value("${product.feed.max-record-length}") int maxRecordLength) {
+        this.pricePolicy = pricePolicy;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // The returned stream owns the input stream and must be closed (try-with-resources)
+    public Stream<Product> streamProducts(InputStream inputStream, FeedFormat format) {
+        final ExternalProductFeedReader reader = new ExternalProductFeedReader(inputStream, format, maxRecordLength);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .<Product>map(externalProduct -> new ProductAdapter(externalProduct, pricePolicy))
+                .onClose(reader::close);
+    }
+
+    public Stream<Product> streamProducts(Path feed, FeedFormat format) {
+        try {
+            return streamProducts(Files.newInputStream(feed), format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Flow.Publisher<Product> publishProducts(Path feed, FeedFormat format) {
+        return new StreamPublisher<>(() -> streamProducts(feed, format));
+    }
+}
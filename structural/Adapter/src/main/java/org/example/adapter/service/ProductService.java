@@ -1,17 +1,49 @@
 package org.example.adapter.service;
 
-import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.cache.ProductCache;
+import org.example.adapter.client.ExternalProductClient;
+import org.example.adapter.client.StubExternalProductClient;
+import org.example.adapter.model.PricePolicy;
 import org.example.adapter.model.Product;
+import org.example.adapter.store.ProductStore;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @Service
 public class ProductService {
+    private final ExternalProductClient externalProductClient;
+    private final ProductCache productCache;
+    private final PricePolicy pricePolicy;
+    private final ProductStore productStore;
+
+    public ProductService(ExternalProductClient externalProductClient, ProductCache productCache, PricePolicy pricePolicy,
+                          ProductStore productStore) {
+        this.externalProductClient = externalProductClient;
+        this.productCache = productCache;
+        this.pricePolicy = pricePolicy;
+        this.productStore = productStore;
+    }
+
     public Product getProductFromExternalAPI() {
-        ExternalProduct externalProduct = new ExternalProduct(
-                "external name",
-                101.1,
-                "external product details"
-        );
-        return new ProductAdapter(externalProduct);
+        return getProductFromExternalAPI(StubExternalProductClient.DEFAULT_PRODUCT_ID);
+    }
+
+    // Serves the synced local copy when there is one and only calls the vendor for products it has not seen yet
+    public Product getProductFromExternalAPI(String productId) {
+        final Product stored = productStore.findById(productId);
+        if (stored != null) {
+            return stored;
+        }
+        return productCache.get(productId, id -> new ProductAdapter(externalProductClient.fetchProduct(id), pricePolicy));
+    }
+
+    public List<Product> findByNamePrefix(String prefix, int limit) {
+        return productStore.findByNamePrefix(prefix, limit);
+    }
+
+    public List<Product> findByPriceRange(BigDecimal min, BigDecimal max, int limit) {
+        return productStore.findByPriceRange(min, max, limit);
     }
 }
@@ -0,0 +1,164 @@
+package org.example.adapter.store;
+
+import org.example.adapter.model.Product;
+import org.example.adapter.model.VersionedProduct;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Local copy of the vendor catalog with sorted name and price indexes, so prefix and range queries
+ * walk only the matching part of an index instead of scanning every product. Writes are serialized;
+ * reads run concurrently with them. A deleted product stays as an unindexed tombstone holding its
+ * version, so a late change with an older version cannot bring it back. Tombstones are dropped once the
+ * cursor moves past them: the feed never returns changes from before the cursor again.
+ */
+public class ProductStore {
+    private static final Comparator<NameKey> NAME_ORDER =
+            Comparator.comparing(NameKey::name).thenComparing(NameKey::productId);
+    private static final Comparator<PriceKey> PRICE_ORDER =
+            Comparator.comparing(PriceKey::price).thenComparing(PriceKey::productId);
+    // Sorts after every real id, so it can close a range that includes all ids of the last key
+    private static final String MAX_ID = "￿";
+
+    private final Map<String, StoredProduct> products = new ConcurrentHashMap<>();
+    private final NavigableSet<NameKey> nameIndex = new ConcurrentSkipListSet<>(NAME_ORDER);
+    private final NavigableSet<PriceKey> priceIndex = new ConcurrentSkipListSet<>(PRICE_ORDER);
+    // Tombstones written since the cursor last moved
+    private final List<String> pendingTombstones = new ArrayList<>();
+    private volatile String cursor;
+    private volatile int liveCount;
+
+    // Carries the stored version, so a response encoded for it can be reused until the product changes
+    public VersionedProduct findById(String productId) {
+        final StoredProduct stored = products.get(productId);
+        return stored == null || stored.isTombstone() ? null : new VersionedProduct(productId, stored.version(), stored.product());
+    }
+
+    public List<Product> findByNamePrefix(String prefix, int limit) {
+        checkLimit(limit);
+        final String from = normalize(prefix);
+        final List<Product> result = new ArrayList<>();
+        for (NameKey key : nameIndex.tailSet(new NameKey(from, ""))) {
+            if (!key.name().startsWith(from) || result.size() == limit) {
+                break;
+            }
+            addIfPresent(key.productId(), result);
+        }
+        return result;
+    }
+
+    public List<Product> findByPriceRange(BigDecimal min, BigDecimal max, int limit) {
+        checkLimit(limit);
+        final List<Product> result = new ArrayList<>();
+        for (PriceKey key : priceIndex.subSet(new PriceKey(min, ""), true, new PriceKey(max, MAX_ID), true)) {
+            if (result.size() == limit) {
+                break;
+            }
+            addIfPresent(key.productId(), result);
+        }
+        return result;
+    }
+
+    // Applies a change unless a newer version of the product is already stored
+    public synchronized void upsert(String productId, long version, Product product) {
+        final StoredProduct previous = products.get(productId);
+        if (previous != null && previous.version() >= version) {
+            return;
+        }
+        if (previous == null || previous.isTombstone()) {
+            liveCount++;
+        } else {
+            unindex(productId, previous.product());
+        }
+        products.put(productId, new StoredProduct(product, version));
+        if (product.getName() != null) {
+            nameIndex.add(new NameKey(normalize(product.getName()), productId));
+        }
+        if (product.getPrice() != null) {
+            priceIndex.add(new PriceKey(product.getPrice(), productId));
+        }
+    }
+
+    // Records a tombstone even for an unknown product, in case its older upsert arrives later
+    public synchronized void delete(String productId, long version) {
+        final StoredProduct previous = products.get(productId);
+        if (previous != null && previous.version() >= version) {
+            return;
+        }
+        if (previous != null && !previous.isTombstone()) {
+            unindex(productId, previous.product());
+            liveCount--;
+        }
+        products.put(productId, new StoredProduct(null, version));
+        pendingTombstones.add(productId);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public synchronized void setCursor(String cursor) {
+        this.cursor = cursor;
+        for (String productId : pendingTombstones) {
+            products.computeIfPresent(productId, (id, stored) -> stored.isTombstone() ? null : stored);
+        }
+        pendingTombstones.clear();
+    }
+
+    // Live products only, tombstones are not counted
+    public int size() {
+        return liveCount;
+    }
+
+    public int getTombstoneCount() {
+        return products.size() - liveCount;
+    }
+
+    private void unindex(String productId, Product product) {
+        if (product.getName() != null) {
+            nameIndex.remove(new NameKey(normalize(product.getName()), productId));
+        }
+        if (product.getPrice() != null) {
+            priceIndex.remove(new PriceKey(product.getPrice(), productId));
+        }
+    }
+
+    // An index entry can briefly outlive its product while a write is in progress
+    private void addIfPresent(String productId, List<Product> result) {
+        final StoredProduct stored = products.get(productId);
+        if (stored != null && !stored.isTombstone()) {
+            result.add(stored.product());
+        }
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // product is null for a tombstone
+    private record StoredProduct(Product product, long version) {
+        boolean isTombstone() {
+            return product == null;
+        }
+    }
+
+    private record NameKey(String name, String productId) {
+    }
+
+    private record PriceKey(BigDecimal price, String productId) {
+    }
+}
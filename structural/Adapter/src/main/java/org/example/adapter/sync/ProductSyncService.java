@@ -0,0 +1,88 @@
+package org.example.adapter.sync;
+
+import org.example.adapter.client.ExternalProductChangeFeed;
+import org.example.adapter.model.ExternalProductChange;
+import org.example.adapter.model.ExternalProductChangeBatch;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.service.ProductAdapter;
+import org.example.adapter.store.ProductStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pulls vendor changes after the stored cursor and applies them to the local ProductStore. Only the
+ * changes since the last run are transferred; the cursor advances after each applied batch, so a
+ * failed run resumes where it stopped. A change that cannot be read or adapted is logged, counted and
+ * skipped, so one bad record cannot hold the cursor back. Never lazy: nothing injects it, so it would
+ * never be scheduled.
+ */
+@Service
+@Lazy(false)
+public class ProductSyncService {
+    private static final Logger log = LoggerFactory.getLogger(ProductSyncService.class);
+
+    private final ExternalProductChangeFeed changeFeed;
+    private final ProductStore productStore;
+    private final PricePolicy pricePolicy;
+    private final int batchSize;
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    public ProductSyncService(ExternalProductChangeFeed changeFeed, ProductStore productStore, PricePolicy pricePolicy,
+                              @Value("${product.sync.batch-size}") int batchSize) {
+        this.changeFeed = changeFeed;
+        this.productStore = productStore;
+        this.pricePolicy = pricePolicy;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${product.sync.interval-ms}")
+    public synchronized int sync() {
+        int applied = 0;
+        ExternalProductChangeBatch batch;
+        do {
+            batch = changeFeed.fetchChanges(productStore.getCursor(), batchSize);
+            for (ExternalProductChange change : batch.changes()) {
+                if (apply(change)) {
+                    applied++;
+                }
+            }
+            productStore.setCursor(batch.nextCursor());
+        } while (batch.hasMore());
+        return applied;
+    }
+
+    // Changes skipped as unreadable or unadaptable since startup
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    private boolean apply(ExternalProductChange change) {
+        if (change.isRejected()) {
+            return skip(change, change.rejection());
+        }
+        if (change.isDeleted()) {
+            productStore.delete(change.productId(), change.version());
+            return true;
+        }
+        final ProductAdapter product;
+        try {
+            product = new ProductAdapter(change.product(), pricePolicy);
+        } catch (IllegalArgumentException e) {
+            return skip(change, e.getMessage());
+        }
+        productStore.upsert(change.productId(), change.version(), product);
+        return true;
+    }
+
+    private boolean skip(ExternalProductChange change, String reason) {
+        skippedCount.incrementAndGet();
+        log.warn("Skipping change {} of product {}: {}", change.version(), change.productId(), reason);
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.adapter.benchmark;
+
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.service.ProductAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call BigDecimal.valueOf(cost), as ProductAdapter.getPrice() used to do, against the price
+ * converted once at adaptation time. Run with -prof gc to compare allocation per call:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main ProductPriceBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductPriceBenchmark {
+
+    private final PricePolicy usd = PricePolicy.of("USD", RoundingMode.HALF_EVEN);
+    private ExternalProduct externalProduct;
+    private ProductAdapter exactAdapter;
+    private ProductAdapter currencyAdapter;
+
+    @Setup
+    public void setUp() {
+        externalProduct = new ExternalProduct("external name", 101.1, "external product details");
+        exactAdapter = new ProductAdapter(externalProduct);
+        currencyAdapter = new ProductAdapter(externalProduct, usd);
+    }
+
+    @Benchmark
+    public BigDecimal perCallConversion() {
+        return BigDecimal.valueOf(externalProduct.getCost());
+    }
+
+    @Benchmark
+    public BigDecimal cachedPrice() {
+        return exactAdapter.getPrice();
+    }
+
+    @Benchmark
+    public long minorUnits() {
+        return currencyAdapter.getPriceMinorUnits();
+    }
+
+    @Benchmark
+    public ProductAdapter adaptWithCurrency() {
+        return new ProductAdapter(externalProduct, usd);
+    }
+}
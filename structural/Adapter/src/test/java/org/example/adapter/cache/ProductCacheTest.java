@@ -0,0 +1,142 @@
+package org.example.adapter.cache;
+
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.Product;
+import org.example.adapter.service.ProductAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCacheTest {
+
+    private static final long TTL = 100;
+    private static final long STALE = 1_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private ProductCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCache(TTL, STALE, 2, refreshes::add, now::get);
+    }
+
+    private Product load(String id) {
+        return new ProductAdapter(new ExternalProduct(id + " v" + loads.incrementAndGet(), 1.0, "details"));
+    }
+
+    @Test
+    void testFreshEntryIsServedFromMemory() {
+        assertEquals("a v1", cache.get("a", this::load).getName());
+        now.addAndGet(TTL - 1);
+        assertEquals("a v1", cache.get("a", this::load).getName());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testStaleEntryIsServedWhileOneRefreshRuns() {
+        cache.get("a", this::load);
+        now.addAndGet(TTL);
+
+        assertEquals("a v1", cache.get("a", this::load).getName());
+        assertEquals("a v1", cache.get("a", this::load).getName());
+        assertEquals(1, refreshes.size());
+
+        refreshes.get(0).run();
+        assertEquals("a v2", cache.get("a", this::load).getName());
+    }
+
+    @Test
+    void testExpiredEntryIsReloaded() {
+        cache.get("a", this::load);
+        now.addAndGet(TTL + STALE);
+        assertEquals("a v2", cache.get("a", this::load).getName());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("a", id -> {
+            throw new IllegalStateException("vendor down");
+        }));
+        assertEquals("a v1", cache.get("a", this::load).getName());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("c", this::load);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyLoadedEntryIsEvicted() {
+        cache.get("a", this::load);
+        now.addAndGet(1);
+        cache.get("b", this::load);
+        now.addAndGet(TTL + STALE);
+        // a is reloaded, so b is now the oldest
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals("a v3", cache.get("a", this::load).getName());
+        assertEquals("c v4", cache.get("c", this::load).getName());
+        assertEquals("b v5", cache.get("b", this::load).getName());
+    }
+
+    @Test
+    void testInvalidatedEntryFreesItsSlot() {
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.invalidate("a");
+        cache.get("c", this::load);
+
+        assertEquals("b v2", cache.get("b", this::load).getName());
+        assertEquals("c v3", cache.get("c", this::load).getName());
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        final ProductCache sharedCache = new ProductCache(TTL, STALE, 10, Runnable::run, now::get);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Function<String, Product> slowLoader = id -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(id);
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Product>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> sharedCache.get("a", slowLoader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Product> result : results) {
+                assertEquals("a v1", result.get(5, TimeUnit.SECONDS).getName());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.adapter.client;
+
+import org.example.adapter.exception.ExternalApiException;
+import org.example.adapter.exception.ExternalProductNotFoundException;
+import org.example.adapter.model.ExternalProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientExternalProductClientTest {
+
+    private static final long OPEN_NANOS = 1_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private StubVendorServer vendor;
+    private CircuitBreaker circuitBreaker;
+    private ResilientExternalProductClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        vendor = new StubVendorServer();
+        vendor.addProduct("42", "{\"productName\":\"external name\",\"cost\":101.1,\"details\":\"external product details\"}");
+        circuitBreaker = new CircuitBreaker(2, OPEN_NANOS, now::get);
+        client = new ResilientExternalProductClient(
+                new HttpExternalProductClient(vendor.baseUrl(), Duration.ofSeconds(2)), circuitBreaker, 4, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        vendor.close();
+    }
+
+    @Test
+    void testFetchProductFromVendor() {
+        final ExternalProduct product = client.fetchProduct("42");
+        assertEquals("external name", product.getProductName());
+        assertEquals(101.1, product.getCost());
+        assertEquals("external product details", product.getDetails());
+    }
+
+    @Test
+    void testMissingOrNonNumericCostIsRejected() {
+        vendor.addProduct("43", "{\"productName\":\"no cost\",\"details\":\"d\"}");
+        vendor.addProduct("44", "{\"productName\":\"text cost\",\"cost\":\"free\",\"details\":\"d\"}");
+
+        assertThrows(ExternalApiException.class, () -> client.fetchProduct("43"));
+        assertThrows(ExternalApiException.class, () -> client.fetchProduct("44"));
+    }
+
+    @Test
+    void testNotFoundDoesNotOpenCircuit() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ExternalProductNotFoundException.class, () -> client.fetchProduct("missing"));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testCircuitOpensFailsFastAndRecovers() {
+        vendor.failWith(500);
+        assertThrows(ExternalApiException.class, () -> client.fetchProduct("42"));
+        assertThrows(ExternalApiException.class, () -> client.fetchProduct("42"));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // While open, calls never reach the vendor
+        final int requests = vendor.requestCount();
+        assertThrows(ExternalApiException.class, () -> client.fetchProduct("42"));
+        assertEquals(requests, vendor.requestCount());
+
+        vendor.failWith(0);
+        now.addAndGet(OPEN_NANOS);
+        assertEquals("external name", client.fetchProduct("42").getProductName());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testErrorDuringTrialReleasesIt() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(OPEN_NANOS);
+        final ResilientExternalProductClient failing = new ResilientExternalProductClient(id -> {
+            throw new StackOverflowError();
+        }, circuitBreaker, 4, 10);
+
+        assertThrows(StackOverflowError.class, () -> failing.fetchProduct("42"));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertEquals("external name", client.fetchProduct("42").getProductName());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testLostTrialReopensTheCircuit() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(OPEN_NANOS);
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        // The trial never reports back
+        now.addAndGet(OPEN_NANOS);
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        now.addAndGet(OPEN_NANOS);
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+}
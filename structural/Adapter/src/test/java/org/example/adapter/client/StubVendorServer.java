@@ -0,0 +1,57 @@
+package org.example.adapter.client;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local stand-in for the vendor API: serves canned JSON bodies from /products/{id}
+class StubVendorServer implements AutoCloseable {
+    private final HttpServer server;
+    private final Map<String, String> products = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int failureStatus;
+
+    StubVendorServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/products/", exchange -> {
+            requests.incrementAndGet();
+            final String id = exchange.getRequestURI().getPath().substring("/products/".length());
+            final String body = products.get(id);
+            final int status = failureStatus != 0 ? failureStatus : body == null ? 404 : 200;
+            final byte[] bytes = status == 200 ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void addProduct(String id, String json) {
+        products.put(id, json);
+    }
+
+    void failWith(int status) {
+        failureStatus = status;
+    }
+
+    int requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
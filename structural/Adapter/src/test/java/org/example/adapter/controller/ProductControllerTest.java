@@ -8,7 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -23,11 +23,14 @@ class ProductControllerTest {
         mockMvc.perform(get("/products/external")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.name")
-                        .value("external name"))
-                .andExpect(jsonPath("$.price")
-                        .value("101.1"))
-                .andExpect(jsonPath("$.description")
-                        .value("external product details"));
+                // Exact body: the price is written at the currency's scale, 101.10 rather than 101.1
+                .andExpect(content().string(
+                        "{\"name\":\"external name\",\"price\":101.10,\"description\":\"external product details\"}"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testInvertedPriceRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/products").param("minPrice", "10").param("maxPrice", "5"))
+                .andExpect(status().isBadRequest());
+    }
+}
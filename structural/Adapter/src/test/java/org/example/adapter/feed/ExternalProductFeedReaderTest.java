@@ -0,0 +1,123 @@
+package org.example.adapter.feed;
+
+import org.example.adapter.exception.FeedParseException;
+import org.example.adapter.model.ExternalProduct;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalProductFeedReaderTest {
+
+    private static ExternalProductFeedReader reader(String feed, FeedFormat format) {
+        return new ExternalProductFeedReader(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    @Test
+    void testReadCsvWithHeaderAndQuotedFields() {
+        final ExternalProductFeedReader reader = reader("""
+                productName,cost,details
+                external name,101.1,external product details
+                "Desk, oak",250,"says ""solid""\"
+                """, FeedFormat.CSV);
+
+        final ExternalProduct first = reader.next();
+        assertEquals("external name", first.getProductName());
+        assertEquals(101.1, first.getCost());
+        assertEquals("external product details", first.getDetails());
+
+        final ExternalProduct second = reader.next();
+        assertEquals("Desk, oak", second.getProductName());
+        assertEquals("says \"solid\"", second.getDetails());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void testReadJsonLinesSkippingBlankLines() {
+        final ExternalProductFeedReader reader = reader("""
+                {"productName":"external name","cost":101.1,"details":"external product details"}
+
+                {"productName":"lamp","cost":15}
+                """, FeedFormat.JSON_LINES);
+
+        assertEquals("external name", reader.next().getProductName());
+        final ExternalProduct lamp = reader.next();
+        assertEquals(15.0, lamp.getCost());
+        assertNull(lamp.getDetails());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void testMalformedRecordReportsLineNumber() {
+        final ExternalProductFeedReader reader = reader("""
+                productName,cost,details
+                ok,1,fine
+                broken,not-a-number,oops
+                """, FeedFormat.CSV);
+
+        reader.next();
+        final FeedParseException exception = assertThrows(FeedParseException.class, reader::next);
+        assertEquals("Feed line 3: invalid cost 'not-a-number'", exception.getMessage());
+    }
+
+    @Test
+    void testQuotedCsvFieldMaySpanLines() {
+        final ExternalProductFeedReader reader = reader("""
+                productName,cost,details
+                lamp,15,"first line
+                second line"
+                chair,20,plain
+                """, FeedFormat.CSV);
+
+        assertEquals("first line\nsecond line", reader.next().getDetails());
+        assertEquals("chair", reader.next().getProductName());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void testNonFiniteCostIsRejected() {
+        final ExternalProductFeedReader csv = reader("""
+                productName,cost,details
+                lamp,NaN,oops
+                """, FeedFormat.CSV);
+        final ExternalProductFeedReader json = reader("""
+                {"productName":"lamp","cost":1e400}
+                """, FeedFormat.JSON_LINES);
+
+        assertEquals("Feed line 2: invalid cost 'NaN'", assertThrows(FeedParseException.class, csv::next).getMessage());
+        assertEquals("Feed line 1: missing numeric cost", assertThrows(FeedParseException.class, json::next).getMessage());
+    }
+
+    @Test
+    void testUnterminatedQuoteFailsOnceTheRecordLimitIsReached() {
+        final StringBuilder feed = new StringBuilder("productName,cost,details\nlamp,15,\"never closed\n");
+        for (int row = 0; row < 100_000; row++) {
+            feed.append("product ").append(row).append(",1.5,details\n");
+        }
+        final ExternalProductFeedReader reader = new ExternalProductFeedReader(
+                new ByteArrayInputStream(feed.toString().getBytes(StandardCharsets.UTF_8)), FeedFormat.CSV, 1024);
+
+        final FeedParseException exception = assertThrows(FeedParseException.class, reader::next);
+        assertEquals("Feed line 2: record exceeds 1024 characters", exception.getMessage());
+    }
+
+    @Test
+    void testLineWithoutNewlineIsNotBufferedPastTheLimit() {
+        final ExternalProductFeedReader reader = new ExternalProductFeedReader(
+                new ByteArrayInputStream(("{\"productName\":\"" + "x".repeat(100_000)).getBytes(StandardCharsets.UTF_8)),
+                FeedFormat.JSON_LINES, 1024);
+
+        assertEquals("Feed line 1: record exceeds 1024 characters",
+                assertThrows(FeedParseException.class, reader::next).getMessage());
+    }
+
+    @Test
+    void testCrLfLineEndings() {
+        final ExternalProductFeedReader reader = reader("productName,cost,details\r\nlamp,15,\"a\r\nb\"\r\n", FeedFormat.CSV);
+
+        assertEquals("a\nb", reader.next().getDetails());
+        assertFalse(reader.hasNext());
+    }
+}
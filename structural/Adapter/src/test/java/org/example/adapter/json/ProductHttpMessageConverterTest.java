@@ -0,0 +1,88 @@
+package org.example.adapter.json;
+
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.Product;
+import org.example.adapter.model.VersionedProduct;
+import org.example.adapter.service.ProductAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductHttpMessageConverterTest {
+
+    private static final class CountingProduct implements Product {
+        private final AtomicInteger reads = new AtomicInteger();
+        private final String name;
+
+        private CountingProduct(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            reads.incrementAndGet();
+            return name;
+        }
+
+        @Override
+        public BigDecimal getPrice() {
+            return new BigDecimal("9.90");
+        }
+
+        @Override
+        public String getDescription() {
+            return null;
+        }
+    }
+
+    private static MockHttpOutputMessage write(ProductHttpMessageConverter converter, Product product) throws IOException {
+        final MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(product, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Test
+    void testSetsContentLengthOfTheBody() throws IOException {
+        final MockHttpOutputMessage message = write(new ProductHttpMessageConverter(),
+                new ProductAdapter(new ExternalProduct("Ünïcödé 📦", 101.1, "tab\t")));
+
+        assertEquals(message.getBodyAsBytes().length, message.getHeaders().getContentLength());
+        assertEquals("{\"name\":\"Ünïcödé 📦\",\"price\":101.10,\"description\":\"tab\\t\"}", message.getBodyAsString());
+    }
+
+    @Test
+    void testReusesEncodedBytesUntilTheVersionChanges() throws IOException {
+        final ProductHttpMessageConverter converter = new ProductHttpMessageConverter(10);
+        final CountingProduct lamp = new CountingProduct("lamp");
+        write(converter, new VersionedProduct("1", 1, lamp));
+        final int readsToEncode = lamp.reads.get();
+
+        final MockHttpOutputMessage cached = write(converter, new VersionedProduct("1", 1, lamp));
+        assertEquals(readsToEncode, lamp.reads.get());
+        assertEquals("{\"name\":\"lamp\",\"price\":9.90,\"description\":null}", cached.getBodyAsString());
+        assertEquals(cached.getBodyAsBytes().length, cached.getHeaders().getContentLength());
+
+        final MockHttpOutputMessage updated = write(converter, new VersionedProduct("1", 2, new CountingProduct("desk lamp")));
+        assertEquals("{\"name\":\"desk lamp\",\"price\":9.90,\"description\":null}", updated.getBodyAsString());
+        assertEquals(1, converter.cachedCount());
+    }
+
+    @Test
+    void testCachesOnlyWhenEnabledAndWithinMaxSize() throws IOException {
+        final ProductHttpMessageConverter disabled = new ProductHttpMessageConverter();
+        write(disabled, new VersionedProduct("1", 1, new CountingProduct("lamp")));
+        assertEquals(0, disabled.cachedCount());
+
+        final ProductHttpMessageConverter bounded = new ProductHttpMessageConverter(2);
+        for (int id = 0; id < 5; id++) {
+            write(bounded, new VersionedProduct(String.valueOf(id), 1, new CountingProduct("product " + id)));
+        }
+        assertEquals(2, bounded.cachedCount());
+    }
+}
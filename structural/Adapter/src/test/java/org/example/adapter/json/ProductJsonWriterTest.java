@@ -0,0 +1,50 @@
+package org.example.adapter.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.Product;
+import org.example.adapter.service.ProductAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductJsonWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private void assertSameAsJackson(Product product) throws Exception {
+        final byte[] bytes = ProductJsonWriter.toJson(product);
+        assertEquals(bytes.length, ProductJsonWriter.encodedLength(product));
+        final String json = new String(bytes, StandardCharsets.UTF_8);
+        final String expected = objectMapper.writerFor(Product.class).writeValueAsString(product);
+        assertEquals(objectMapper.readTree(expected), objectMapper.readTree(json));
+        assertTrue(json.startsWith("{\"name\":"), json);
+    }
+
+    @Test
+    void testMatchesJacksonOutput() throws Exception {
+        assertSameAsJackson(new ProductAdapter(new ExternalProduct("external name", 101.1, "external product details")));
+    }
+
+    @Test
+    void testEscapesAndEncodesLikeJackson() throws Exception {
+        assertSameAsJackson(new ProductAdapter(new ExternalProduct(
+                "Quote \" backslash \\ tab\t newline\n bell\u0007",
+                1e-9,
+                "Ünïcödé €, 日本, emoji 📦"
+        )));
+    }
+
+    @Test
+    void testMeasuresUnpairedSurrogatesAndControlCharacters() {
+        final ProductAdapter product = new ProductAdapter(new ExternalProduct("lone \ud83d high", 2.5, "\udce6 low \u0000 \r\f\b"));
+        assertEquals(ProductJsonWriter.toJson(product).length, ProductJsonWriter.encodedLength(product));
+    }
+
+    @Test
+    void testWritesNulls() throws Exception {
+        assertSameAsJackson(new ProductAdapter(new ExternalProduct(null, 0, null)));
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.adapter.service;
 
 import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.PricePolicy;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,7 +23,52 @@ class ProductAdapterTest {
         ProductAdapter adapter = new ProductAdapter(externalProduct);
 
         assertEquals("external name", adapter.getName());
-        assertEquals(BigDecimal.valueOf(101.1), adapter.getPrice());
+        assertEquals(new BigDecimal("101.10"), adapter.getPrice());
         assertEquals("external product details", adapter.getDescription());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPriceIsConvertedOnce() {
+        ProductAdapter adapter = new ProductAdapter(new ExternalProduct("name", 101.1, "details"));
+
+        assertSame(adapter.getPrice(), adapter.getPrice());
+        assertEquals(10110, adapter.getPriceMinorUnits());
+        assertEquals(2, adapter.getPriceScale());
+        assertEquals(Currency.getInstance("USD"), adapter.getCurrency());
+    }
+
+    @Test
+    void testMinorUnitsUseTheCurrencyScale() {
+        // BigDecimal.valueOf(1.0E10) is unscaled 10 with scale -9
+        ProductAdapter adapter = new ProductAdapter(new ExternalProduct("name", 1.0E10, "details"));
+
+        assertEquals(1_000_000_000_000L, adapter.getPriceMinorUnits());
+        assertEquals(2, adapter.getPriceScale());
+        assertThrows(IllegalArgumentException.class, () -> new ProductAdapter(new ExternalProduct("name", 1.0E300, "details")));
+    }
+
+    @Test
+    void testCurrencyPolicyRoundsToMinorUnits() {
+        // 0.1 + 0.2 is 0.30000000000000004 as a double
+        ProductAdapter adapter = new ProductAdapter(
+                new ExternalProduct("name", 0.1 + 0.2, "details"),
+                PricePolicy.of("USD", RoundingMode.HALF_EVEN)
+        );
+
+        assertEquals(new BigDecimal("0.30"), adapter.getPrice());
+        assertEquals(30, adapter.getPriceMinorUnits());
+        assertEquals(2, adapter.getPriceScale());
+        assertEquals(Currency.getInstance("USD"), adapter.getCurrency());
+    }
+
+    @Test
+    void testCurrencyWithoutMinorUnits() {
+        ProductAdapter adapter = new ProductAdapter(
+                new ExternalProduct("name", 1234.5, "details"),
+                PricePolicy.of("JPY", RoundingMode.HALF_UP)
+        );
+
+        assertEquals(1235, adapter.getPriceMinorUnits());
+        assertEquals(new BigDecimal("1235"), adapter.getPrice());
+    }
+}
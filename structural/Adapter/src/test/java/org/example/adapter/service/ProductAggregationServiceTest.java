@@ -0,0 +1,134 @@
+package org.example.adapter.service;
+
+import org.example.adapter.model.AggregatedProducts;
+import org.example.adapter.model.CatalogItem;
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.model.Product;
+import org.example.adapter.vendor.ProductSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductAggregationServiceTest {
+
+    private static final long SOURCE_TIMEOUT_MS = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ProductAdapterRegistry registry = new ProductAdapterRegistry(List.of(
+            new ExternalProductAdapterFactory(PricePolicy.DEFAULT),
+            new CatalogItemAdapterFactory()
+    ));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static ProductSource source(String name, long delayMillis, List<?> records) {
+        return new ProductSource() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public List<?> findProducts(String nameQuery) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return records;
+            }
+        };
+    }
+
+    private ProductAggregationService service(ProductSource... sources) {
+        return new ProductAggregationService(List.of(sources), registry, executor, SOURCE_TIMEOUT_MS);
+    }
+
+    @Test
+    void testMergesVendorsAndKeepsCheapestDuplicate() {
+        final ProductAggregationService service = service(
+                source("external", 0, List.of(
+                        new ExternalProduct("Desk lamp", 19.99, "LED desk lamp"),
+                        new ExternalProduct("Office chair", 149.0, "Ergonomic office chair"))),
+                source("catalog", 0, List.of(
+                        new CatalogItem("LMP-1", "desk lamp ", 1799, "Adjustable desk lamp")))
+        );
+
+        final AggregatedProducts result = service.findProducts("");
+
+        assertEquals(List.of(), result.failedSources());
+        assertEquals(2, result.products().size());
+        final Product lamp = result.products().get(0);
+        assertEquals("Adjustable desk lamp", lamp.getDescription());
+        assertEquals(new BigDecimal("17.99"), lamp.getPrice());
+    }
+
+    @Test
+    void testSlowAndFailingSourcesReturnPartialResults() {
+        final ProductAggregationService service = service(
+                source("fast", 0, List.of(new ExternalProduct("Keyboard", 49.5, "Mechanical keyboard"))),
+                source("slow", 2_000, List.of(new ExternalProduct("Mouse", 10, "Wireless mouse"))),
+                source("broken", 0, List.of("not a product"))
+        );
+
+        final long start = System.nanoTime();
+        final AggregatedProducts result = service.findProducts("");
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(List.of("Keyboard"), result.products().stream().map(Product::getName).toList());
+        assertEquals(List.of("slow", "broken"), result.failedSources());
+        assertTrue(elapsedMillis < 1_000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testProductWithoutNameDoesNotFailTheSearch() {
+        final ProductAggregationService service = service(
+                source("external", 0, List.of(
+                        new ExternalProduct(null, 5.0, "Unnamed"),
+                        new ExternalProduct("Desk lamp", 19.99, "LED desk lamp")))
+        );
+
+        final AggregatedProducts result = service.findProducts("");
+
+        assertEquals(List.of(), result.failedSources());
+        assertEquals(List.of("Desk lamp"), result.products().stream().map(Product::getName).toList());
+    }
+
+    @Test
+    void testTimedOutSourceIsInterrupted() throws Exception {
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final ProductAggregationService service = service(new ProductSource() {
+            @Override
+            public String getName() {
+                return "stuck";
+            }
+
+            @Override
+            public List<?> findProducts(String nameQuery) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return List.of();
+            }
+        });
+
+        assertEquals(List.of("stuck"), service.findProducts("").failedSources());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.adapter.service;
+
+import org.example.adapter.feed.ExternalProductFeedReader;
+import org.example.adapter.feed.FeedFormat;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFeedServiceTest {
+    private final ProductFeedService productFeedService = new ProductFeedService(PricePolicy.DEFAULT,
+            ExternalProductFeedReader.DEFAULT_MAX_RECORD_LENGTH);
+
+    // Generates rows lazily, so the feed itself never exists in memory
+    private static InputStream generatedFeed(int rows) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int row;
+
+            @Override
+            public boolean hasMoreElements() {
+                return row < rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                final String line = "product %d,%d.5,details %d\n".formatted(row, row, row);
+                row++;
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    @Test
+    void testStreamProductsAdaptsEveryRecord() {
+        try (Stream<Product> products = productFeedService.streamProducts(generatedFeed(200_000), FeedFormat.CSV)) {
+            final BigDecimal total = products.map(Product::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+            // sum of (i + 0.5) for i in [0, 200000)
+            assertEquals(new BigDecimal("20000000000.00"), total);
+        }
+    }
+
+    @Test
+    void testPublishProductsHonoursDemand(@TempDir Path dir) throws IOException {
+        final Path feed = dir.resolve("feed.jsonl");
+        Files.writeString(feed, """
+                {"productName":"a","cost":1.0,"details":"first"}
+                {"productName":"b","cost":2.0,"details":"second"}
+                {"productName":"c","cost":3.0,"details":"third"}
+                """);
+
+        final List<String> received = new ArrayList<>();
+        final boolean[] completed = new boolean[1];
+        final Flow.Subscription[] subscription = new Flow.Subscription[1];
+        productFeedService.publishProducts(feed, FeedFormat.JSON_LINES).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(Product item) {
+                received.add(item.getName());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed[0] = true;
+            }
+        });
+
+        assertTrue(received.isEmpty());
+        subscription[0].request(2);
+        assertEquals(List.of("a", "b"), received);
+        assertFalse(completed[0]);
+        subscription[0].request(5);
+        assertEquals(List.of("a", "b", "c"), received);
+        assertTrue(completed[0]);
+    }
+}
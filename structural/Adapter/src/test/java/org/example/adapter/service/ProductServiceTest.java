@@ -1,6 +1,10 @@
 package org.example.adapter.service;
 
+import org.example.adapter.cache.ProductCache;
+import org.example.adapter.client.StubExternalProductClient;
+import org.example.adapter.model.PricePolicy;
 import org.example.adapter.model.Product;
+import org.example.adapter.store.ProductStore;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
@@ -8,13 +12,18 @@ import java.math.BigDecimal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ProductServiceTest {
-    private final ProductService productService = new ProductService();
+    private final ProductService productService = new ProductService(
+            new StubExternalProductClient(),
+            new ProductCache(Long.MAX_VALUE / 2, 0, 100, Runnable::run, System::nanoTime),
+            PricePolicy.DEFAULT,
+            new ProductStore()
+    );
 
     @Test
     void testGetProductFromExternalApi() {
         final Product product = productService.getProductFromExternalAPI();
         assertEquals("external name", product.getName());
-        assertEquals(BigDecimal.valueOf(101.1), product.getPrice());
+        assertEquals(new BigDecimal("101.10"), product.getPrice());
         assertEquals("external product details", product.getDescription());
     }
-}
\ No newline at end of file
+}
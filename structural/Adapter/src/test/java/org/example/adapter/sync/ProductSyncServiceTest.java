@@ -0,0 +1,146 @@
+package org.example.adapter.sync;
+
+import org.example.adapter.client.InMemoryExternalProductChangeFeed;
+import org.example.adapter.model.ExternalProduct;
+import org.example.adapter.model.ExternalProductChange;
+import org.example.adapter.model.ExternalProductChangeBatch;
+import org.example.adapter.model.PricePolicy;
+import org.example.adapter.model.Product;
+import org.example.adapter.service.ProductAdapter;
+import org.example.adapter.store.ProductStore;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductSyncServiceTest {
+    private final InMemoryExternalProductChangeFeed feed = new InMemoryExternalProductChangeFeed();
+    private final ProductStore store = new ProductStore();
+    private final ProductSyncService syncService = new ProductSyncService(feed, store, PricePolicy.DEFAULT, 2);
+
+    @Test
+    void testSyncPullsAllBatchesAndThenOnlyNewChanges() {
+        feed.publish("1", new ExternalProduct("Desk Lamp", 25.0, "lamp"));
+        feed.publish("2", new ExternalProduct("desk chair", 120.0, "chair"));
+        feed.publish("3", new ExternalProduct("Monitor", 300.0, "monitor"));
+
+        assertEquals(3, syncService.sync());
+        assertEquals(3, store.size());
+        assertEquals(0, syncService.sync());
+
+        feed.publish("1", new ExternalProduct("Desk Lamp", 30.0, "lamp"));
+        assertEquals(1, syncService.sync());
+        assertEquals(new BigDecimal("30.00"), store.findById("1").getPrice());
+    }
+
+    @Test
+    void testSyncAppliesDeletes() {
+        feed.publish("1", new ExternalProduct("Desk Lamp", 25.0, "lamp"));
+        feed.publish("1", null);
+        syncService.sync();
+
+        assertNull(store.findById("1"));
+        assertEquals(List.of(), store.findByNamePrefix("desk", 10));
+    }
+
+    @Test
+    void testIndexesFollowUpdates() {
+        feed.publish("1", new ExternalProduct("Desk Lamp", 25.0, "lamp"));
+        feed.publish("2", new ExternalProduct("desk chair", 120.0, "chair"));
+        feed.publish("3", new ExternalProduct("Monitor", 300.0, "monitor"));
+        feed.publish("2", new ExternalProduct("Office chair", 110.0, "chair"));
+        syncService.sync();
+
+        assertEquals(List.of("Desk Lamp"), names(store.findByNamePrefix("DESK", 10)));
+        assertEquals(List.of("Office chair"), names(store.findByNamePrefix("off", 10)));
+        assertEquals(List.of("Desk Lamp", "Office chair"), names(store.findByPriceRange(BigDecimal.ZERO, new BigDecimal("110.0"), 10)));
+        assertEquals(List.of("Monitor"), names(store.findByPriceRange(new BigDecimal("200"), new BigDecimal("1000"), 10)));
+    }
+
+    @Test
+    void testStaleVersionIsIgnored() {
+        store.upsert("1", 5, product("new"));
+        store.upsert("1", 4, product("old"));
+        store.delete("1", 3);
+
+        assertEquals("new", store.findById("1").getName());
+    }
+
+    @Test
+    void testDeleteLeavesTombstoneForLateUpserts() {
+        store.upsert("1", 1, product("lamp"));
+        store.delete("1", 3);
+        store.upsert("1", 2, product("lamp"));
+        store.delete("2", 7);
+        store.upsert("2", 6, product("chair"));
+
+        assertNull(store.findById("1"));
+        assertNull(store.findById("2"));
+        assertEquals(0, store.size());
+        assertEquals(List.of(), store.findByNamePrefix("", 10));
+
+        store.upsert("1", 4, product("lamp"));
+        assertEquals("lamp", store.findById("1").getName());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testNegativeLimitIsRejected() {
+        store.upsert("1", 1, product("lamp"));
+
+        assertThrows(IllegalArgumentException.class, () -> store.findByNamePrefix("l", -1));
+        assertThrows(IllegalArgumentException.class, () -> store.findByPriceRange(BigDecimal.ZERO, BigDecimal.TEN, -1));
+        assertEquals(List.of(), store.findByNamePrefix("l", 0));
+    }
+
+    @Test
+    void testPoisonChangesAreSkippedAndTheCursorMovesPastThem() {
+        feed.publish("1", new ExternalProduct("Desk Lamp", 25.0, "lamp"));
+        feed.publish("2", new ExternalProduct("Gold Desk", 1.0E300, "too expensive for a long"));
+        feed.publish("3", new ExternalProduct("Monitor", 300.0, "monitor"));
+
+        assertEquals(2, syncService.sync());
+        assertEquals(1, syncService.getSkippedCount());
+        assertNull(store.findById("2"));
+        assertEquals("Monitor", store.findById("3").getName());
+        assertEquals("3", store.getCursor());
+        assertEquals(0, syncService.sync());
+        assertEquals(1, syncService.getSkippedCount());
+    }
+
+    @Test
+    void testRejectedChangesFromTheFeedAreSkipped() {
+        final ProductSyncService rejectingSync = new ProductSyncService((cursor, limit) -> new ExternalProductChangeBatch(
+                List.of(ExternalProductChange.rejected("1", 1, "bad cost"),
+                        new ExternalProductChange("2", 2, new ExternalProduct("Lamp", 25.0, "lamp"))),
+                "2", false), store, PricePolicy.DEFAULT, 2);
+
+        assertEquals(1, rejectingSync.sync());
+        assertEquals(1, rejectingSync.getSkippedCount());
+        assertNull(store.findById("1"));
+        assertEquals("2", store.getCursor());
+    }
+
+    @Test
+    void testTombstonesAreDroppedOnceTheCursorPassesThem() {
+        feed.publish("1", new ExternalProduct("Desk Lamp", 25.0, "lamp"));
+        feed.publish("1", null);
+        feed.publish("2", null);
+        syncService.sync();
+
+        assertEquals(0, store.getTombstoneCount());
+        assertEquals(0, store.size());
+    }
+
+    private static Product product(String name) {
+        return new ProductAdapter(new ExternalProduct(name, 1.0, name), PricePolicy.DEFAULT);
+    }
+
+    private static List<String> names(List<Product> products) {
+        return products.stream().map(Product::getName).toList();
+    }
+}
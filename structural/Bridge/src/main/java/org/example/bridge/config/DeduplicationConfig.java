@@ -0,0 +1,45 @@
+package org.example.bridge.config;
+
+import org.example.bridge.dedup.DeduplicatingNotificationSender;
+import org.example.bridge.dedup.NotificationDeduplicator;
+import org.example.bridge.service.NotificationSender;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The deduplicating senders are never lazy: their eviction is scheduled, and the schedule is only
+ * registered once the bean exists.
+ */
+@Configuration
+@EnableScheduling
+public class DeduplicationConfig {
+
+    @Value("${notification.dedup.window-ms}")
+    private long windowMillis;
+
+    @Value("${notification.dedup.max-entries}")
+    private int maxEntries;
+
+    @Value("${notification.dedup.digest}")
+    private boolean digest;
+
+    @Bean
+    @Lazy(false)
+    public DeduplicatingNotificationSender deduplicatingEmailSender(@Qualifier("emailSender") NotificationSender sender) {
+        return new DeduplicatingNotificationSender(sender, newDeduplicator());
+    }
+
+    @Bean
+    @Lazy(false)
+    public DeduplicatingNotificationSender deduplicatingSmsSender(@Qualifier("smsSender") NotificationSender sender) {
+        return new DeduplicatingNotificationSender(sender, newDeduplicator());
+    }
+
+    private NotificationDeduplicator newDeduplicator() {
+        return new NotificationDeduplicator(windowMillis, maxEntries, digest, System::currentTimeMillis);
+    }
+}
@@ -1,29 +1,53 @@
 package org.example.bridge.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.bridge.dispatch.NotificationDispatcher;
+import org.example.bridge.dispatch.NotificationPriority;
 import org.example.bridge.notifcation.EmailNotification;
+import org.example.bridge.notifcation.Notification;
 import org.example.bridge.notifcation.SmsNotification;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/notify")
 @RequiredArgsConstructor
 public class NotificationController {
     private final EmailNotification emailNotification;
     private final SmsNotification smsNotification;
+    private final NotificationDispatcher dispatcher;
 
+    // Delivery is asynchronous and may still fail, so the response only confirms the notification was accepted
     @GetMapping("/sendEmail")
-    public String sendEmail(@RequestParam String message) {
-        emailNotification.send(message);
-        return "Email sent!";
+    public ResponseEntity<String> sendEmail(@RequestParam String message,
+                                            @RequestParam(defaultValue = "NORMAL") NotificationPriority priority,
+                                            @RequestParam(defaultValue = "0") long delayMs) {
+        return dispatch(emailNotification, "Email", message, priority, delayMs);
     }
 
     @GetMapping("/sendSms")
-    public String sendSms(@RequestParam String message) {
-        smsNotification.send(message);
-        return "SMS sent!";
+    public ResponseEntity<String> sendSms(@RequestParam String message,
+                                          @RequestParam(defaultValue = "NORMAL") NotificationPriority priority,
+                                          @RequestParam(defaultValue = "0") long delayMs) {
+        return dispatch(smsNotification, "SMS", message, priority, delayMs);
+    }
+
+    private ResponseEntity<String> dispatch(Notification notification, String label, String message,
+                                            NotificationPriority priority, long delayMs) {
+        if (delayMs < 0 || delayMs > NotificationDispatcher.MAX_DELAY.toMillis()) {
+            return ResponseEntity.badRequest()
+                    .body("delayMs must be between 0 and " + NotificationDispatcher.MAX_DELAY.toMillis());
+        }
+        if (delayMs == 0) {
+            dispatcher.submit(notification, message, priority);
+            return ResponseEntity.accepted().body(label + " queued!");
+        }
+        dispatcher.schedule(notification, message, priority, Duration.ofMillis(delayMs));
+        return ResponseEntity.accepted().body(label + " scheduled!");
     }
 }
@@ -0,0 +1,87 @@
+package org.example.bridge.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.bridge.dispatch.NotificationDispatcher;
+import org.example.bridge.dispatch.NotificationPriority;
+import org.example.bridge.dto.NotificationChannel;
+import org.example.bridge.dto.NotificationRequest;
+import org.example.bridge.dto.NotificationResult;
+import org.example.bridge.notifcation.EmailNotification;
+import org.example.bridge.notifcation.Notification;
+import org.example.bridge.notifcation.SmsNotification;
+import org.example.bridge.service.DeliveryOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * POST endpoints for the reactive (Netty) stack, enabled with the {@code reactive} profile.
+ * Delivery runs on the dispatcher's worker threads and completes a CompletableFuture, so the
+ * event loop only wires futures together and never waits on a sender. A delivered message reports
+ * "sent", one the deduplicating sender dropped as a repeat reports "suppressed".
+ */
+@RestController
+@RequestMapping("/notify")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveNotificationController {
+    // Upper bound of batch items in flight at once; the NDJSON body is only read as fast as they complete
+    private static final int BATCH_CONCURRENCY = 256;
+
+    private final EmailNotification emailNotification;
+    private final SmsNotification smsNotification;
+    private final NotificationDispatcher dispatcher;
+
+    @PostMapping(value = "/email", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<NotificationResult> sendEmail(@RequestBody NotificationRequest request) {
+        return send(NotificationChannel.EMAIL, request);
+    }
+
+    @PostMapping(value = "/sms", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<NotificationResult> sendSms(@RequestBody NotificationRequest request) {
+        return send(NotificationChannel.SMS, request);
+    }
+
+    // The 200 and earlier results are already sent when an item turns out invalid, so it gets a "rejected" line
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<NotificationResult> sendBatch(@RequestBody Flux<NotificationRequest> requests) {
+        return requests.flatMap(request -> {
+            if (request.channel() == null) {
+                return Mono.just(new NotificationResult(null, "rejected"));
+            }
+            return send(request.channel(), request)
+                    .onErrorResume(e -> Mono.just(new NotificationResult(request.channel(),
+                            e instanceof ResponseStatusException ? "rejected" : "failed")));
+        }, BATCH_CONCURRENCY);
+    }
+
+    private Mono<NotificationResult> send(NotificationChannel channel, NotificationRequest request) {
+        if (request.message() == null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Message is required"));
+        }
+        final Notification notification = channel == NotificationChannel.EMAIL ? emailNotification : smsNotification;
+        final NotificationPriority priority = request.priority() == null ? NotificationPriority.NORMAL : request.priority();
+        final long delayMs = request.delayMs() == null ? 0 : request.delayMs();
+        if (delayMs < 0 || delayMs > NotificationDispatcher.MAX_DELAY.toMillis()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "delayMs must be between 0 and " + NotificationDispatcher.MAX_DELAY.toMillis()));
+        }
+
+        if (delayMs > 0) {
+            // Not awaited: the response would otherwise be held open for the whole delay
+            dispatcher.schedule(notification, request.message(), priority, Duration.ofMillis(delayMs));
+            return Mono.just(new NotificationResult(channel, "scheduled"));
+        }
+        return Mono.fromFuture(() -> dispatcher.submit(notification, request.message(), priority))
+                .map(outcome -> new NotificationResult(channel, outcome == DeliveryOutcome.SUPPRESSED ? "suppressed" : "sent"));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.bridge.dedup;
+
+import org.example.bridge.service.DeliveryOutcome;
+import org.example.bridge.service.NotificationSender;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class DeduplicatingNotificationSender implements NotificationSender {
+    private final NotificationSender delegate;
+    private final NotificationDeduplicator deduplicator;
+
+    public DeduplicatingNotificationSender(NotificationSender delegate, NotificationDeduplicator deduplicator) {
+        this.delegate = delegate;
+        this.deduplicator = deduplicator;
+    }
+
+    @Override
+    public DeliveryOutcome sendNotification(String message) {
+        return sendNotification(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public DeliveryOutcome sendNotification(ByteBuffer message) {
+        flushExpired();
+        // Hashed before the delegate can consume the buffer, so a failed send can still be forgotten
+        final long hash = NotificationDeduplicator.hash(message);
+        if (!deduplicator.isFirstOccurrence(hash, message)) {
+            return DeliveryOutcome.SUPPRESSED;
+        }
+        try {
+            return delegate.sendNotification(message);
+        } catch (RuntimeException e) {
+            // A failed send must not count as seen, or the dispatcher's retry would be dropped as a duplicate
+            deduplicator.forget(hash);
+            throw e;
+        }
+    }
+
+    // Closes idle windows too, so digests are not held back until the next message arrives
+    @Scheduled(fixedDelayString = "${notification.dedup.window-ms}")
+    public void flushExpired() {
+        for (String digest : deduplicator.expire()) {
+            delegate.sendNotification(digest);
+        }
+    }
+
+    public NotificationSender getDelegate() {
+        return delegate;
+    }
+}
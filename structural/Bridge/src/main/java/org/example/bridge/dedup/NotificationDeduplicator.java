@@ -0,0 +1,275 @@
+package org.example.bridge.dedup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-windowed set of message hashes kept as two rotating generations, so memory is bounded by
+ * {@code 2 * maxEntries} no matter how long the application runs. A message is a duplicate while its
+ * hash is in either generation, i.e. for at least one window after it was first seen. A generation that
+ * fills up before its window closes rotates early, so a burst shortens the window instead of switching
+ * deduplication off. Hashes live in open-addressing {@code long} tables: a first occurrence allocates
+ * nothing, and a payload is only copied for the digest once the message repeats.
+ */
+public class NotificationDeduplicator {
+    private static final String DIGEST = "%s (repeated %d more times)";
+
+    private final long windowMillis;
+    private final int maxEntries;
+    private final boolean digest;
+    private final LongSupplier clock;
+
+    private Generation current;
+    private Generation previous;
+    private long generationStart;
+    // Digests of generations retired early, handed out by the next expire()
+    private final List<String> pendingDigests = new ArrayList<>();
+    // Read without the lock, so a send that has nothing to expire does not contend on the monitor
+    private volatile long rotateAt;
+    private volatile boolean digestsPending;
+
+    public NotificationDeduplicator(long windowMillis, int maxEntries, boolean digest, LongSupplier clock) {
+        if (windowMillis <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("Window and max entries must be positive");
+        }
+        this.windowMillis = windowMillis;
+        this.maxEntries = maxEntries;
+        this.digest = digest;
+        this.clock = clock;
+        this.current = new Generation(maxEntries, digest);
+        this.previous = new Generation(maxEntries, digest);
+        this.generationStart = clock.getAsLong();
+        this.rotateAt = generationStart + windowMillis;
+    }
+
+    // 64-bit FNV-1a, read without moving the buffer position; never 0, which marks an empty table slot
+    public static long hash(ByteBuffer message) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = message.position(); i < message.limit(); i++) {
+            hash ^= message.get(i) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    public boolean isFirstOccurrence(ByteBuffer message) {
+        return isFirstOccurrence(hash(message), message);
+    }
+
+    // hash must be hash(message); the message is only read when a digest needs its text
+    public synchronized boolean isFirstOccurrence(long hash, ByteBuffer message) {
+        Generation generation = current;
+        int slot = current.find(hash);
+        if (slot < 0) {
+            generation = previous;
+            slot = previous.find(hash);
+        }
+        if (slot < 0) {
+            if (current.size() >= maxEntries) {
+                rotate(false, clock.getAsLong());
+            }
+            current.add(hash);
+            return true;
+        }
+        if (digest) {
+            generation.suppress(slot, message);
+        }
+        return false;
+    }
+
+    // Removes the message from both generations, e.g. after its delivery failed
+    public void forget(ByteBuffer message) {
+        forget(hash(message));
+    }
+
+    public synchronized void forget(long hash) {
+        current.remove(hash);
+        previous.remove(hash);
+    }
+
+    // Rotates generations whose window has closed and returns digest messages for the retired entries
+    public List<String> expire() {
+        if (clock.getAsLong() < rotateAt && !digestsPending) {
+            return List.of();
+        }
+        synchronized (this) {
+            final long now = clock.getAsLong();
+            final long elapsed = now - generationStart;
+            if (elapsed >= windowMillis) {
+                rotate(elapsed >= 2 * windowMillis, now);
+            }
+            if (pendingDigests.isEmpty()) {
+                return List.of();
+            }
+            final List<String> digests = List.copyOf(pendingDigests);
+            pendingDigests.clear();
+            digestsPending = false;
+            return digests;
+        }
+    }
+
+    public synchronized int size() {
+        return current.size() + previous.size();
+    }
+
+    // Retires the previous generation, and the current one too when it is also past its window
+    private void rotate(boolean retireCurrent, long now) {
+        previous.collectDigests(pendingDigests);
+        previous.clear();
+        if (retireCurrent) {
+            current.collectDigests(pendingDigests);
+            current.clear();
+        } else {
+            final Generation retired = previous;
+            previous = current;
+            current = retired;
+        }
+        digestsPending = !pendingDigests.isEmpty();
+        generationStart = now;
+        rotateAt = now + windowMillis;
+    }
+
+    /**
+     * Linear-probing table of message hashes with a suppressed count per slot. Starts small and doubles
+     * up to twice {@code maxEntries} slots, so it is never more than half full and a probe always ends.
+     */
+    private static final class Generation {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final int maxCapacity;
+        private final boolean keepMessages;
+        private long[] hashes;
+        private int[] suppressed;
+        // Text of the first repeat per slot, digest mode only
+        private byte[][] messages;
+        private int size;
+
+        private Generation(int maxEntries, boolean keepMessages) {
+            this.maxCapacity = Integer.highestOneBit(Math.max(1, maxEntries * 2 - 1)) << 1;
+            this.keepMessages = keepMessages;
+            allocate(Math.min(INITIAL_CAPACITY, maxCapacity));
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int find(long hash) {
+            final int mask = hashes.length - 1;
+            for (int slot = home(hash, mask); ; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash) {
+                    return slot;
+                }
+                if (hashes[slot] == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        // The caller has checked that the hash is absent and the generation is not full
+        private void add(long hash) {
+            if ((size + 1) * 2 > hashes.length && hashes.length < maxCapacity) {
+                grow();
+            }
+            final int mask = hashes.length - 1;
+            int slot = home(hash, mask);
+            while (hashes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            size++;
+        }
+
+        private void suppress(int slot, ByteBuffer message) {
+            if (messages[slot] == null) {
+                final byte[] bytes = new byte[message.remaining()];
+                message.get(message.position(), bytes);
+                messages[slot] = bytes;
+            }
+            suppressed[slot]++;
+        }
+
+        // Backward-shift deletion: later entries of the same probe run move up, so no tombstones are needed
+        private void remove(long hash) {
+            int hole = find(hash);
+            if (hole < 0) {
+                return;
+            }
+            final int mask = hashes.length - 1;
+            for (int slot = (hole + 1) & mask; hashes[slot] != 0; slot = (slot + 1) & mask) {
+                if (((slot - home(hashes[slot], mask)) & mask) >= ((slot - hole) & mask)) {
+                    hashes[hole] = hashes[slot];
+                    suppressed[hole] = suppressed[slot];
+                    if (keepMessages) {
+                        messages[hole] = messages[slot];
+                    }
+                    hole = slot;
+                }
+            }
+            hashes[hole] = 0;
+            suppressed[hole] = 0;
+            if (keepMessages) {
+                messages[hole] = null;
+            }
+            size--;
+        }
+
+        private void collectDigests(List<String> digests) {
+            if (!keepMessages) {
+                return;
+            }
+            for (int slot = 0; slot < hashes.length; slot++) {
+                if (suppressed[slot] > 0) {
+                    digests.add(DIGEST.formatted(new String(messages[slot], StandardCharsets.UTF_8), suppressed[slot]));
+                }
+            }
+        }
+
+        private void clear() {
+            if (size == 0) {
+                return;
+            }
+            Arrays.fill(hashes, 0);
+            Arrays.fill(suppressed, 0);
+            if (keepMessages) {
+                Arrays.fill(messages, null);
+            }
+            size = 0;
+        }
+
+        private void grow() {
+            final long[] oldHashes = hashes;
+            final int[] oldSuppressed = suppressed;
+            final byte[][] oldMessages = messages;
+            allocate(hashes.length * 2);
+            final int mask = hashes.length - 1;
+            for (int old = 0; old < oldHashes.length; old++) {
+                if (oldHashes[old] != 0) {
+                    int slot = home(oldHashes[old], mask);
+                    while (hashes[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    hashes[slot] = oldHashes[old];
+                    suppressed[slot] = oldSuppressed[old];
+                    if (keepMessages) {
+                        messages[slot] = oldMessages[old];
+                    }
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            hashes = new long[capacity];
+            suppressed = new int[capacity];
+            messages = keepMessages ? new byte[capacity][] : null;
+        }
+
+        private static int home(long hash, int mask) {
+            return Long.hashCode(hash * 0x9E3779B97F4A7C15L) & mask;
+        }
+    }
+}
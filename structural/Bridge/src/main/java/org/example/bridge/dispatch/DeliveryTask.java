@@ -0,0 +1,53 @@
+package org.example.bridge.dispatch;
+
+import org.example.bridge.notifcation.Notification;
+import org.example.bridge.service.DeliveryOutcome;
+
+import java.util.concurrent.CompletableFuture;
+
+public class DeliveryTask extends HierarchicalTimingWheel.Entry {
+    private final Notification notification;
+    private final String message;
+    private final NotificationPriority priority;
+    private final CompletableFuture<DeliveryOutcome> result = new CompletableFuture<>();
+    private long enqueuedNanos;
+    private int attempts;
+
+    public DeliveryTask(Notification notification, String message, NotificationPriority priority) {
+        this.notification = notification;
+        this.message = message;
+        this.priority = priority;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public NotificationPriority getPriority() {
+        return priority;
+    }
+
+    public CompletableFuture<DeliveryOutcome> getResult() {
+        return result;
+    }
+
+    public long getEnqueuedNanos() {
+        return enqueuedNanos;
+    }
+
+    void setEnqueuedNanos(long enqueuedNanos) {
+        this.enqueuedNanos = enqueuedNanos;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    void incrementAttempts() {
+        attempts++;
+    }
+}
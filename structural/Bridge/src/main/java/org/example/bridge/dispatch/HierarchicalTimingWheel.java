@@ -0,0 +1,137 @@
+package org.example.bridge.dispatch;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel. Insertion is O(1): an entry is linked into the bucket of the
+ * coarsest level that still resolves its deadline, and is cascaded to finer levels as time advances.
+ * Entries are intrusive (the entry itself is the list node), so a pending entry costs no extra objects.
+ * Times are milliseconds on any clock that only moves forward; a wall clock would fire or stall every
+ * entry when it is stepped. Not thread-safe: callers serialize access.
+ */
+public class HierarchicalTimingWheel<T extends HierarchicalTimingWheel.Entry> {
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Entry[][] buckets;
+    private final long startMillis;
+
+    private Entry overflow;
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick and levels must be positive and wheel size a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new Entry[levels][wheelSize];
+        this.startMillis = startMillis;
+    }
+
+    // Returns false without storing the entry when its deadline has already passed
+    public boolean add(T entry, long deadlineMillis) {
+        final long deadlineTick = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        entry.deadlineTick = deadlineTick;
+        place(entry);
+        size++;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void advance(long nowMillis, Consumer<? super T> expired) {
+        final long nowTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        while (currentTick < nowTick) {
+            currentTick++;
+            // Cascade coarse levels first so their entries land in the finer buckets processed below
+            if ((currentTick & ((1L << (bits * levels)) - 1)) == 0) {
+                cascade(detachOverflow());
+            }
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(detach(level, (int) (currentTick >>> (bits * level)) & mask));
+                }
+            }
+            Entry entry = detach(0, (int) currentTick & mask);
+            while (entry != null) {
+                final Entry next = entry.next;
+                entry.next = null;
+                size--;
+                expired.accept((T) entry);
+                entry = next;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Removes every pending entry, e.g. on shutdown, and hands it to removed
+    @SuppressWarnings("unchecked")
+    public void drain(Consumer<? super T> removed) {
+        final Consumer<Entry> release = entry -> removed.accept((T) entry);
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot <= mask; slot++) {
+                unlink(detach(level, slot), release);
+            }
+        }
+        unlink(detachOverflow(), release);
+        size = 0;
+    }
+
+    private static void unlink(Entry entry, Consumer<Entry> removed) {
+        while (entry != null) {
+            final Entry next = entry.next;
+            entry.next = null;
+            removed.accept(entry);
+            entry = next;
+        }
+    }
+
+    private void cascade(Entry entry) {
+        while (entry != null) {
+            final Entry next = entry.next;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void place(Entry entry) {
+        final long delta = entry.deadlineTick - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delta < 1L << (bits * (level + 1))) {
+                final int slot = delta <= 0 ? (int) currentTick & mask : (int) (entry.deadlineTick >>> (bits * level)) & mask;
+                entry.next = buckets[level][slot];
+                buckets[level][slot] = entry;
+                return;
+            }
+        }
+        entry.next = overflow;
+        overflow = entry;
+    }
+
+    private Entry detach(int level, int slot) {
+        final Entry head = buckets[level][slot];
+        buckets[level][slot] = null;
+        return head;
+    }
+
+    private Entry detachOverflow() {
+        final Entry head = overflow;
+        overflow = null;
+        return head;
+    }
+
+    public abstract static class Entry {
+        long deadlineTick;
+        Entry next;
+    }
+}
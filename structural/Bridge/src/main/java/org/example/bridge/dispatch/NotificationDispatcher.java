@@ -0,0 +1,269 @@
+package org.example.bridge.dispatch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.bridge.metrics.NotificationMetrics;
+import org.example.bridge.notifcation.Notification;
+import org.example.bridge.service.DeliveryOutcome;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers notifications from one queue per {@link NotificationPriority}. Workers drain the lanes with
+ * weighted round-robin, so while every lane is backed up they are served in proportion to their weights
+ * and a marketing burst in LOW cannot starve an OTP in HIGH.
+ * Delayed notifications wait in a {@link HierarchicalTimingWheel} and join their lane when due.
+ * Delays are measured on {@link System#nanoTime()}, so stepping the wall clock neither fires nor stalls them.
+ * Worker threads are started by {@link #start()} once the dispatcher is fully constructed. Never lazy:
+ * scheduled notifications must keep firing even while no request has touched the dispatcher. On shutdown
+ * every queued or scheduled notification completes exceptionally, so no caller waits forever.
+ */
+@Component
+@Lazy(false)
+public class NotificationDispatcher {
+    public static final Duration MAX_DELAY = Duration.ofDays(30);
+
+    private static final NotificationPriority[] PRIORITIES = NotificationPriority.values();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final ArrayDeque<DeliveryTask>[] lanes;
+    private final int[] credits = new int[PRIORITIES.length];
+
+    private final Object timerLock = new Object();
+    private final HierarchicalTimingWheel<DeliveryTask> timingWheel;
+    private final long tickMillis;
+    private final long startNanos = System.nanoTime();
+
+    private final NotificationMetrics metrics;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+
+    private final int workers;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    public NotificationDispatcher(NotificationMetrics metrics,
+                                  @Value("${notification.dispatch.workers}") int workers,
+                                  @Value("${notification.dispatch.tick-ms}") long tickMillis,
+                                  @Value("${notification.dispatch.wheel-size}") int wheelSize,
+                                  @Value("${notification.dispatch.wheel-levels}") int wheelLevels,
+                                  @Value("${notification.dispatch.max-retries}") int maxRetries,
+                                  @Value("${notification.dispatch.retry-backoff-ms}") long retryBackoffMillis) {
+        this.lanes = new ArrayDeque[PRIORITIES.length];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+        this.tickMillis = tickMillis;
+        this.timingWheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, wheelLevels, 0);
+        this.metrics = metrics;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.workers = workers;
+    }
+
+    @PostConstruct
+    public void start() {
+        metrics.bindQueues(this::getQueueDepth, this::getScheduledCount);
+        for (int i = 0; i < workers; i++) {
+            threads.add(startThread("notification-worker-" + i, this::deliverLoop));
+        }
+        threads.add(startThread("notification-timer", this::timerLoop));
+    }
+
+    // Completes with the send's outcome, or exceptionally once the retries are used up
+    public CompletableFuture<DeliveryOutcome> submit(Notification notification, String message, NotificationPriority priority) {
+        final DeliveryTask task = new DeliveryTask(notification, message, priority);
+        enqueue(task);
+        return task.getResult();
+    }
+
+    // Throws IllegalArgumentException for a negative delay or one longer than MAX_DELAY
+    public CompletableFuture<DeliveryOutcome> schedule(Notification notification, String message,
+                                                       NotificationPriority priority, Duration delay) {
+        if (delay.isNegative() || delay.compareTo(MAX_DELAY) > 0) {
+            throw new IllegalArgumentException("Delay must be between 0 and " + MAX_DELAY + ": " + delay);
+        }
+        final DeliveryTask task = new DeliveryTask(notification, message, priority);
+        scheduleAfter(task, delay.toMillis());
+        return task.getResult();
+    }
+
+    public int getQueueDepth(NotificationPriority priority) {
+        lock.lock();
+        try {
+            return lanes[priority.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getScheduledCount() {
+        synchronized (timerLock) {
+            return timingWheel.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        // Anything added after running was cleared is rejected under the same locks, so nothing is left behind
+        final List<DeliveryTask> abandoned = new ArrayList<>();
+        synchronized (timerLock) {
+            timingWheel.drain(abandoned::add);
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<DeliveryTask> lane : lanes) {
+                abandoned.addAll(lane);
+                lane.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+        abandoned.forEach(NotificationDispatcher::reject);
+    }
+
+    private void scheduleAfter(DeliveryTask task, long delayMillis) {
+        final boolean pending;
+        synchronized (timerLock) {
+            if (!running) {
+                reject(task);
+                return;
+            }
+            pending = timingWheel.add(task, elapsedMillis() + delayMillis);
+        }
+        if (!pending) {
+            enqueue(task);
+        }
+    }
+
+    private static void reject(DeliveryTask task) {
+        task.getResult().completeExceptionally(new RejectedExecutionException("Notification dispatcher is shut down"));
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void enqueue(DeliveryTask task) {
+        // Retries keep their first enqueue time, so latency includes the time spent retrying
+        if (task.getAttempts() == 0) {
+            task.setEnqueuedNanos(System.nanoTime());
+        }
+        lock.lock();
+        try {
+            if (!running) {
+                reject(task);
+                return;
+            }
+            lanes[task.getPriority().ordinal()].addLast(task);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DeliveryTask take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                final DeliveryTask task = poll();
+                if (task != null) {
+                    return task;
+                }
+                available.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DeliveryTask poll() {
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < lanes.length; i++) {
+                if (credits[i] > 0 && !lanes[i].isEmpty()) {
+                    credits[i]--;
+                    return lanes[i].pollFirst();
+                }
+            }
+            // Every non-empty lane spent its share: start a new round
+            for (int i = 0; i < credits.length; i++) {
+                credits[i] = PRIORITIES[i].getWeight();
+            }
+        }
+        return null;
+    }
+
+    private void deliverLoop() {
+        while (running) {
+            final DeliveryTask task;
+            try {
+                task = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            deliver(task);
+        }
+    }
+
+    private void deliver(DeliveryTask task) {
+        final NotificationMetrics.Meters meters = metrics.forNotification(task.getNotification());
+        final DeliveryOutcome outcome;
+        try {
+            outcome = task.getNotification().send(task.getMessage());
+        } catch (RuntimeException e) {
+            if (task.getAttempts() < maxRetries) {
+                task.incrementAttempts();
+                meters.recordRetry();
+                scheduleAfter(task, retryBackoffMillis * task.getAttempts());
+            } else {
+                meters.recordFailure();
+                task.getResult().completeExceptionally(e);
+            }
+            return;
+        }
+        if (outcome == DeliveryOutcome.SUPPRESSED) {
+            meters.recordSuppressed();
+        } else {
+            meters.recordDelivery(task.getPriority(), System.nanoTime() - task.getEnqueuedNanos());
+        }
+        task.getResult().complete(outcome);
+    }
+
+    private void timerLoop() {
+        final List<DeliveryTask> due = new ArrayList<>();
+        while (running) {
+            synchronized (timerLock) {
+                timingWheel.advance(elapsedMillis(), due::add);
+            }
+            due.forEach(this::enqueue);
+            due.clear();
+            try {
+                TimeUnit.MILLISECONDS.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static Thread startThread(String name, Runnable loop) {
+        final Thread thread = new Thread(loop, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.bridge.dispatch;
+
+public enum NotificationPriority {
+    // Weights are the share of deliveries each lane gets while all lanes are backed up
+    HIGH(8),
+    NORMAL(3),
+    LOW(1);
+
+    private final int weight;
+
+    NotificationPriority(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
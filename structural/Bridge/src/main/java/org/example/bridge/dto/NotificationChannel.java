@@ -0,0 +1,6 @@
+package org.example.bridge.dto;
+
+public enum NotificationChannel {
+    EMAIL,
+    SMS
+}
@@ -0,0 +1,7 @@
+package org.example.bridge.dto;
+
+import org.example.bridge.dispatch.NotificationPriority;
+
+// channel is only read from batch items; the single-message endpoints take it from the path
+public record NotificationRequest(NotificationChannel channel, String message, NotificationPriority priority, Long delayMs) {
+}
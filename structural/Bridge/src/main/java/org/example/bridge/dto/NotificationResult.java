@@ -0,0 +1,4 @@
+package org.example.bridge.dto;
+
+public record NotificationResult(NotificationChannel channel, String status) {
+}
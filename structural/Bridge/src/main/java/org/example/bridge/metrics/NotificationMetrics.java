@@ -0,0 +1,103 @@
+package org.example.bridge.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.bridge.dedup.DeduplicatingNotificationSender;
+import org.example.bridge.dispatch.NotificationPriority;
+import org.example.bridge.notifcation.Notification;
+import org.example.bridge.service.NotificationSender;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Delivery metrics tagged by the Notification (abstraction) and NotificationSender (implementor) pair,
+ * with latency also tagged by priority. Meters are resolved once per Notification instance, so recording
+ * on the hot path is a map lookup. The application's notifications are registered up front, with every
+ * priority, so a scrape before the first delivery already shows each series at zero. Never lazy for the
+ * same reason.
+ */
+@Component
+@Lazy(false)
+public class NotificationMetrics {
+    private final MeterRegistry registry;
+    private final Map<Notification, Meters> meters = new ConcurrentHashMap<>();
+
+    public NotificationMetrics(MeterRegistry registry, List<Notification> notifications) {
+        this.registry = registry;
+        notifications.forEach(this::forNotification);
+    }
+
+    public Meters forNotification(Notification notification) {
+        return meters.computeIfAbsent(notification, this::register);
+    }
+
+    public void bindQueues(ToIntFunction<NotificationPriority> queueDepth, IntSupplier scheduled) {
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            Gauge.builder("notification.queue.depth", () -> queueDepth.applyAsInt(priority))
+                    .tag("priority", priority.name())
+                    .register(registry);
+        }
+        Gauge.builder("notification.scheduled", scheduled::getAsInt).register(registry);
+    }
+
+    private Meters register(Notification notification) {
+        final String abstraction = notification.getClass().getSimpleName();
+        final String implementor = senderName(notification.sender);
+        final Timer[] latency = new Timer[NotificationPriority.values().length];
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            latency[priority.ordinal()] = Timer.builder("notification.delivery.latency")
+                    .description("Time from enqueue to completed delivery")
+                    .tags("notification", abstraction, "sender", implementor, "priority", priority.name())
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        return new Meters(
+                latency,
+                Counter.builder("notification.failures")
+                        .tags("notification", abstraction, "sender", implementor)
+                        .register(registry),
+                Counter.builder("notification.retries")
+                        .tags("notification", abstraction, "sender", implementor)
+                        .register(registry),
+                Counter.builder("notification.suppressed")
+                        .description("Sends dropped as duplicates; not timed as deliveries")
+                        .tags("notification", abstraction, "sender", implementor)
+                        .register(registry)
+        );
+    }
+
+    private static String senderName(NotificationSender sender) {
+        final NotificationSender target = sender instanceof DeduplicatingNotificationSender deduplicating
+                ? deduplicating.getDelegate()
+                : sender;
+        return target.getClass().getSimpleName();
+    }
+
+    // latency is indexed by NotificationPriority ordinal
+    public record Meters(Timer[] latency, Counter failures, Counter retries, Counter suppressed) {
+        public void recordDelivery(NotificationPriority priority, long latencyNanos) {
+            latency[priority.ordinal()].record(latencyNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordSuppressed() {
+            suppressed.increment();
+        }
+
+        public void recordFailure() {
+            failures.increment();
+        }
+
+        public void recordRetry() {
+            retries.increment();
+        }
+    }
+}
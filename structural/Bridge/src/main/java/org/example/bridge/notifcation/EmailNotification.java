@@ -1,17 +1,21 @@
 package org.example.bridge.notifcation;
 
-import org.example.bridge.service.NotificationSender;import org.springframework.beans.factory.annotation.Qualifier;
+import org.example.bridge.service.DeliveryOutcome;
+import org.example.bridge.service.NotificationSender;
+import org.example.bridge.template.MessageTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
 public class EmailNotification extends Notification {
+    private static final MessageTemplate TEMPLATE = MessageTemplate.compile("Email Notification: {message}");
 
-    public EmailNotification(@Qualifier("emailSender") NotificationSender sender) {
+    public EmailNotification(@Qualifier("deduplicatingEmailSender") NotificationSender sender) {
         super(sender);
     }
 
     @Override
-    public void send(String message) {
-        sender.sendNotification("Email Notification: " + message);
+    public DeliveryOutcome send(String message) {
+        return sender.sendNotification(TEMPLATE.render(message));
     }
 }
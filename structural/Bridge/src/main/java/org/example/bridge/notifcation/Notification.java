@@ -1,5 +1,6 @@
 package org.example.bridge.notifcation;
 
+import org.example.bridge.service.DeliveryOutcome;
 import org.example.bridge.service.NotificationSender;
 
 public abstract class Notification {
@@ -9,5 +10,5 @@ public abstract class Notification {
         this.sender = sender;
     }
 
-    public abstract void send(String message);
+    public abstract DeliveryOutcome send(String message);
 }
@@ -1,18 +1,21 @@
 package org.example.bridge.notifcation;
 
-import org.example.bridge.service.NotificationSender;import org.springframework.beans.factory.annotation.Qualifier;
+import org.example.bridge.service.DeliveryOutcome;
+import org.example.bridge.service.NotificationSender;
+import org.example.bridge.template.MessageTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SmsNotification extends Notification {
+    private static final MessageTemplate TEMPLATE = MessageTemplate.compile("SMS Notification: {message}");
 
-    public SmsNotification(@Qualifier("smsSender") NotificationSender sender) {
+    public SmsNotification(@Qualifier("deduplicatingSmsSender") NotificationSender sender) {
         super(sender);
     }
 
     @Override
-    public void send(String message) {
-        sender.sendNotification("SMS Notification: " + message);
+    public DeliveryOutcome send(String message) {
+        return sender.sendNotification(TEMPLATE.render(message));
     }
 }
-
@@ -0,0 +1,38 @@
+package org.example.bridge.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes encoded messages straight to a channel, by default the stdout descriptor. This skips the
+ * synchronized System.out PrintStream and its flush per message; a channel write already reaches the
+ * descriptor. Tests pass their own channel to capture the output.
+ */
+@Component
+public class ConsoleOutput {
+    private final WritableByteChannel channel;
+
+    public ConsoleOutput() {
+        this(new FileOutputStream(FileDescriptor.out).getChannel());
+    }
+
+    public ConsoleOutput(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public void write(ByteBuffer bytes) {
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.bridge.service;
+
+// What a send did with the message; a failed send throws instead
+public enum DeliveryOutcome {
+    DELIVERED,
+    // Dropped as a repeat, e.g. by the deduplicating sender
+    SUPPRESSED
+}
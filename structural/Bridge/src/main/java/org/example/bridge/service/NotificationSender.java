@@ -1,5 +1,13 @@
 package org.example.bridge.service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 public interface NotificationSender {
-    void sendNotification(String message);
+    DeliveryOutcome sendNotification(String message);
+
+    // UTF-8 encoded message; implementations must not keep a reference to the buffer after returning
+    default DeliveryOutcome sendNotification(ByteBuffer message) {
+        return sendNotification(StandardCharsets.UTF_8.decode(message).toString());
+    }
 }
@@ -1,11 +1,27 @@
 package org.example.bridge.service;
 
+import lombok.RequiredArgsConstructor;
+import org.example.bridge.template.MessageTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+
 @Component
+@RequiredArgsConstructor
 public class SmsSender implements NotificationSender {
+    private static final MessageTemplate TEMPLATE = MessageTemplate.compile("Sending SMS with message: {message}\n");
+
+    private final ConsoleOutput output;
+
+    @Override
+    public DeliveryOutcome sendNotification(String message) {
+        output.write(TEMPLATE.render(message));
+        return DeliveryOutcome.DELIVERED;
+    }
+
     @Override
-    public void sendNotification(String message) {
-        System.out.println("Sending SMS with message: " + message);
+    public DeliveryOutcome sendNotification(ByteBuffer message) {
+        output.write(TEMPLATE.render(message));
+        return DeliveryOutcome.DELIVERED;
     }
 }
@@ -0,0 +1,99 @@
+package org.example.bridge.template;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Template compiled once into UTF-8 prefix/suffix bytes around a single {@code {message}} placeholder.
+ * Rendering encodes the message straight from its chars into a buffer owned by the calling thread,
+ * so the hot path allocates neither strings nor char buffers. Unpaired surrogates become {@code ?}. The returned buffer is only valid until the next render on the same thread.
+ * A thread keeps at most {@link #MAX_RETAINED_CAPACITY} bytes; a larger message gets a buffer of its own.
+ */
+public final class MessageTemplate {
+    public static final String PLACEHOLDER = "{message}";
+
+    private static final int INITIAL_CAPACITY = 256;
+    static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    // UTF-8 needs at most 3 bytes per UTF-16 unit; a surrogate pair is 4 bytes for 2 units
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_CAPACITY));
+
+    private MessageTemplate(byte[] prefix, byte[] suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    public static MessageTemplate compile(String pattern) {
+        final int index = pattern.indexOf(PLACEHOLDER);
+        if (index < 0) {
+            throw new IllegalArgumentException("Template must contain " + PLACEHOLDER + ": " + pattern);
+        }
+        return new MessageTemplate(
+                pattern.substring(0, index).getBytes(StandardCharsets.UTF_8),
+                pattern.substring(index + PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    public ByteBuffer render(CharSequence message) {
+        final ByteBuffer buffer = acquire(message.length() * MAX_BYTES_PER_CHAR);
+        buffer.put(prefix);
+        encodeUtf8(message, buffer);
+        buffer.put(suffix);
+        return buffer.flip();
+    }
+
+    public ByteBuffer render(ByteBuffer message) {
+        final ByteBuffer buffer = acquire(message.remaining());
+        buffer.put(prefix);
+        final int position = message.position();
+        buffer.put(message);
+        message.position(position);
+        buffer.put(suffix);
+        return buffer.flip();
+    }
+
+    // The buffer is heap-backed and sized for the worst case, so the bytes go straight into its array
+    private static void encodeUtf8(CharSequence message, ByteBuffer buffer) {
+        final byte[] bytes = buffer.array();
+        int position = buffer.arrayOffset() + buffer.position();
+        final int length = message.length();
+        for (int i = 0; i < length; i++) {
+            final char c = message.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | c >> 6);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                bytes[position++] = (byte) (0xE0 | c >> 12);
+                bytes[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(message.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, message.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                bytes[position++] = '?';
+            }
+        }
+        buffer.position(position - buffer.arrayOffset());
+    }
+
+    private ByteBuffer acquire(int messageCapacity) {
+        final int required = prefix.length + suffix.length + messageCapacity;
+        if (required > MAX_RETAINED_CAPACITY) {
+            return ByteBuffer.allocate(required);
+        }
+        ByteBuffer buffer = buffers.get();
+        if (buffer.capacity() < required) {
+            buffer = ByteBuffer.allocate(Math.min(Math.max(required, buffer.capacity() * 2), MAX_RETAINED_CAPACITY));
+            buffers.set(buffer);
+        }
+        return buffer.clear();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.bridge.controller;
+
+import org.example.bridge.dto.NotificationChannel;
+import org.example.bridge.dto.NotificationResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveNotificationControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testSendEmail() {
+        webTestClient.post().uri("/notify/email")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"message\":\"Hello\",\"priority\":\"HIGH\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.channel").isEqualTo("EMAIL")
+                .jsonPath("$.status").isEqualTo("sent");
+    }
+
+    @Test
+    void testSendSmsWithoutMessage() {
+        webTestClient.post().uri("/notify/sms")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testNegativeDelayIsRejected() {
+        webTestClient.post().uri("/notify/sms")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"message\":\"Hello\",\"delayMs\":-1}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testSendBatch() {
+        final String body = """
+                {"channel":"SMS","message":"one"}
+                {"channel":"EMAIL","message":"two","priority":"LOW"}
+                {"channel":"SMS","message":"three","delayMs":60000}
+                """;
+
+        final List<NotificationResult> results = webTestClient.post().uri("/notify/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(NotificationResult.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(3, results.size());
+        assertEquals(1, results.stream().filter(result -> result.status().equals("scheduled")).count());
+        assertEquals(2, results.stream().filter(result -> result.channel() == NotificationChannel.SMS).count());
+    }
+
+    @Test
+    void testRepeatedEmailIsReportedAsSuppressed() {
+        for (String status : List.of("sent", "suppressed")) {
+            webTestClient.post().uri("/notify/email")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"message\":\"Only once, please\"}")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(status);
+        }
+    }
+
+    @Test
+    void testInvalidBatchItemsAreRejectedWithoutEndingTheBatch() {
+        final String body = """
+                {"message":"no channel"}
+                {"channel":"SMS"}
+                {"channel":"EMAIL","message":"too late","delayMs":999999999999}
+                {"channel":"SMS","message":"batch item after the invalid ones"}
+                """;
+
+        final List<NotificationResult> results = webTestClient.post().uri("/notify/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(NotificationResult.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(4, results.size());
+        assertEquals(3, results.stream().filter(result -> result.status().equals("rejected")).count());
+        assertEquals(1, results.stream().filter(result -> result.status().equals("sent")).count());
+    }
+}
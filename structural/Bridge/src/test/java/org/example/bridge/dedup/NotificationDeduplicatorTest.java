@@ -0,0 +1,115 @@
+package org.example.bridge.dedup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDeduplicatorTest {
+
+    private static final long WINDOW = 1_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private NotificationDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new NotificationDeduplicator(WINDOW, 100, true, now::get);
+    }
+
+    private static ByteBuffer bytes(String message) {
+        return ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void isFirstOccurrence_suppressesRepeatsWithinWindow() {
+        assertTrue(deduplicator.isFirstOccurrence(bytes("alert")));
+        assertFalse(deduplicator.isFirstOccurrence(bytes("alert")));
+        assertTrue(deduplicator.isFirstOccurrence(bytes("other alert")));
+    }
+
+    @Test
+    void expire_emitsDigestAndForgetsMessageAfterWindow() {
+        deduplicator.isFirstOccurrence(bytes("alert"));
+        deduplicator.isFirstOccurrence(bytes("alert"));
+        deduplicator.isFirstOccurrence(bytes("alert"));
+
+        now.addAndGet(WINDOW);
+        assertEquals(List.of(), deduplicator.expire());
+        // still within the previous generation
+        assertFalse(deduplicator.isFirstOccurrence(bytes("alert")));
+
+        now.addAndGet(WINDOW);
+        assertEquals(List.of("alert (repeated 3 more times)"), deduplicator.expire());
+        assertTrue(deduplicator.isFirstOccurrence(bytes("alert")));
+    }
+
+    @Test
+    void expire_afterLongIdleRetiresBothGenerations() {
+        deduplicator.isFirstOccurrence(bytes("alert"));
+        deduplicator.isFirstOccurrence(bytes("alert"));
+
+        now.addAndGet(5 * WINDOW);
+        assertEquals(List.of("alert (repeated 1 more times)"), deduplicator.expire());
+        assertEquals(0, deduplicator.size());
+    }
+
+    @Test
+    void isFirstOccurrence_staysWithinTwiceMaxEntries() {
+        final NotificationDeduplicator bounded = new NotificationDeduplicator(WINDOW, 2, false, now::get);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bounded.isFirstOccurrence(bytes("message " + i)));
+        }
+        assertEquals(4, bounded.size());
+    }
+
+    @Test
+    void isFirstOccurrence_fullGenerationRotatesEarlyAndKeepsDeduplicating() {
+        final NotificationDeduplicator bounded = new NotificationDeduplicator(WINDOW, 2, true, now::get);
+        assertTrue(bounded.isFirstOccurrence(bytes("a")));
+        assertFalse(bounded.isFirstOccurrence(bytes("a")));
+        assertTrue(bounded.isFirstOccurrence(bytes("b")));
+        // The generation is full: c rotates it early instead of going unrecorded
+        assertTrue(bounded.isFirstOccurrence(bytes("c")));
+
+        assertFalse(bounded.isFirstOccurrence(bytes("c")));
+        assertFalse(bounded.isFirstOccurrence(bytes("b")));
+        assertTrue(bounded.isFirstOccurrence(bytes("d")));
+        assertTrue(bounded.isFirstOccurrence(bytes("e")));
+        // e rotated again and retired a and b; their digests wait for the next expire
+        assertEquals(Set.of("a (repeated 1 more times)", "b (repeated 1 more times)"), Set.copyOf(bounded.expire()));
+        assertEquals(List.of(), bounded.expire());
+        assertTrue(bounded.isFirstOccurrence(bytes("a")));
+    }
+
+    @Test
+    void forget_keepsOtherEntriesOfTheSameProbeRun() {
+        final NotificationDeduplicator large = new NotificationDeduplicator(WINDOW, 10_000, false, now::get);
+        for (int i = 0; i < 10_000; i++) {
+            large.isFirstOccurrence(bytes("message " + i));
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            large.forget(bytes("message " + i));
+        }
+
+        assertEquals(5_000, large.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i % 2 == 0, large.isFirstOccurrence(bytes("message " + i)), "message " + i);
+        }
+    }
+
+    @Test
+    void forget_letsTheMessageThroughAgain() {
+        assertTrue(deduplicator.isFirstOccurrence(bytes("alert")));
+        deduplicator.forget(bytes("alert"));
+
+        assertTrue(deduplicator.isFirstOccurrence(bytes("alert")));
+        assertEquals(1, deduplicator.size());
+    }
+}
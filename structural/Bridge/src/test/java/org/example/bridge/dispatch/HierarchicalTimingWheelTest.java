@@ -0,0 +1,79 @@
+package org.example.bridge.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final class TestEntry extends HierarchicalTimingWheel.Entry {
+        private final long deadline;
+
+        private TestEntry(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    @Test
+    void add_rejectsDeadlinesInThePast() {
+        final HierarchicalTimingWheel<TestEntry> wheel = new HierarchicalTimingWheel<>(10, 8, 2, 0);
+        wheel.advance(100, entry -> fail());
+        assertFalse(wheel.add(new TestEntry(50), 50));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_firesEveryEntryAtOrAfterItsDeadlineAcrossLevelsAndOverflow() {
+        // 4 slots x 2 levels covers 16 ticks, so the larger deadlines go through the overflow list
+        final HierarchicalTimingWheel<TestEntry> wheel = new HierarchicalTimingWheel<>(1, 4, 2, 0);
+        final long[] deadlines = {1, 3, 4, 5, 15, 16, 17, 40, 63, 64, 100, 257};
+        for (long deadline : deadlines) {
+            assertTrue(wheel.add(new TestEntry(deadline), deadline));
+        }
+        assertEquals(deadlines.length, wheel.size());
+
+        final List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 300; now++) {
+            final long tick = now;
+            wheel.advance(now, entry -> {
+                assertEquals(entry.deadline, tick);
+                fired.add(entry.deadline);
+            });
+        }
+        assertEquals(deadlines.length, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_handlesLargeJumpsInTime() {
+        final HierarchicalTimingWheel<TestEntry> wheel = new HierarchicalTimingWheel<>(10, 64, 3, 1_000);
+        for (int i = 1; i <= 10_000; i++) {
+            wheel.add(new TestEntry(1_000 + i * 7L), 1_000 + i * 7L);
+        }
+        final List<TestEntry> fired = new ArrayList<>();
+        wheel.advance(1_000 + 35_000, fired::add);
+        assertEquals(5_000, fired.size());
+        fired.forEach(entry -> assertTrue(entry.deadline <= 36_000));
+        wheel.advance(1_000 + 70_000, fired::add);
+        assertEquals(10_000, fired.size());
+    }
+
+    @Test
+    void drain_removesEveryPendingEntry() {
+        final HierarchicalTimingWheel<TestEntry> wheel = new HierarchicalTimingWheel<>(1, 4, 2, 0);
+        final long[] deadlines = {1, 5, 17, 300};
+        for (long deadline : deadlines) {
+            wheel.add(new TestEntry(deadline), deadline);
+        }
+
+        final List<Long> drained = new ArrayList<>();
+        wheel.drain(entry -> drained.add(entry.deadline));
+
+        assertEquals(List.of(1L, 5L, 17L, 300L), drained.stream().sorted().toList());
+        assertEquals(0, wheel.size());
+        wheel.advance(400, entry -> fail());
+    }
+}
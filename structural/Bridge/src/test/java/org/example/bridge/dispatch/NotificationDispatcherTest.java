@@ -0,0 +1,176 @@
+package org.example.bridge.dispatch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.bridge.dedup.DeduplicatingNotificationSender;
+import org.example.bridge.dedup.NotificationDeduplicator;
+import org.example.bridge.metrics.NotificationMetrics;
+import org.example.bridge.notifcation.EmailNotification;
+import org.example.bridge.notifcation.Notification;
+import org.example.bridge.service.DeliveryOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+    private static final class RecordingNotification extends Notification {
+        private final List<String> delivered = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failuresLeft;
+
+        private RecordingNotification(int failures) {
+            super(message -> DeliveryOutcome.DELIVERED);
+            this.failuresLeft = new AtomicInteger(failures);
+        }
+
+        @Override
+        public DeliveryOutcome send(String message) {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("provider unavailable");
+            }
+            delivered.add(message);
+            return DeliveryOutcome.DELIVERED;
+        }
+    }
+
+    private MeterRegistry registry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        dispatcher = new NotificationDispatcher(new NotificationMetrics(registry, List.of()), 1, 5, 16, 3, 2, 10);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void submit_deliversAndRecordsLatency() throws Exception {
+        final RecordingNotification notification = new RecordingNotification(0);
+        dispatcher.submit(notification, "hello", NotificationPriority.HIGH).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("hello"), notification.delivered);
+        assertEquals(1, registry.get("notification.delivery.latency")
+                .tag("notification", "RecordingNotification")
+                .tag("priority", "HIGH")
+                .timer().count());
+    }
+
+    @Test
+    void schedule_deliversAfterDelay() throws Exception {
+        final RecordingNotification notification = new RecordingNotification(0);
+        final long start = System.nanoTime();
+        dispatcher.schedule(notification, "later", NotificationPriority.LOW, Duration.ofMillis(100))
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(List.of("later"), notification.delivered);
+    }
+
+    @Test
+    void schedule_rejectsDelayBeyondMaximum() {
+        final RecordingNotification notification = new RecordingNotification(0);
+
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.schedule(notification, "never",
+                NotificationPriority.LOW, NotificationDispatcher.MAX_DELAY.plusMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.schedule(notification, "never",
+                NotificationPriority.LOW, Duration.ofMillis(Long.MAX_VALUE)));
+        assertEquals(0, dispatcher.getScheduledCount());
+    }
+
+    @Test
+    void shutdown_failsPendingNotificationsAndRejectsNewOnes() {
+        final RecordingNotification notification = new RecordingNotification(0);
+        final CompletableFuture<DeliveryOutcome> scheduled =
+                dispatcher.schedule(notification, "later", NotificationPriority.LOW, Duration.ofMinutes(1));
+
+        dispatcher.shutdown();
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, () -> scheduled.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(0, dispatcher.getScheduledCount());
+        assertTrue(dispatcher.submit(notification, "too late", NotificationPriority.HIGH).isCompletedExceptionally());
+        assertTrue(notification.delivered.isEmpty());
+    }
+
+    @Test
+    void deliver_retriesThenSucceeds() throws Exception {
+        final RecordingNotification notification = new RecordingNotification(2);
+        dispatcher.submit(notification, "flaky", NotificationPriority.NORMAL).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("flaky"), notification.delivered);
+        assertEquals(2, registry.get("notification.retries").counter().count());
+        assertEquals(0, registry.get("notification.failures").counter().count());
+    }
+
+    @Test
+    void deliver_failsAfterMaxRetries() {
+        final RecordingNotification notification = new RecordingNotification(10);
+        final ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> dispatcher.submit(notification, "down", NotificationPriority.NORMAL).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(1, registry.get("notification.failures").counter().count());
+    }
+
+    @Test
+    void deliver_retryIsNotDroppedByDeduplication() throws Exception {
+        final List<String> delivered = new CopyOnWriteArrayList<>();
+        final AtomicInteger failuresLeft = new AtomicInteger(1);
+        final DeduplicatingNotificationSender sender = new DeduplicatingNotificationSender(message -> {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("provider unavailable");
+            }
+            delivered.add(message);
+            return DeliveryOutcome.DELIVERED;
+        }, new NotificationDeduplicator(60_000, 100, false, System::currentTimeMillis));
+
+        dispatcher.submit(new EmailNotification(sender), "otp", NotificationPriority.HIGH).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("Email Notification: otp"), delivered);
+        assertEquals(1, registry.get("notification.retries").counter().count());
+    }
+
+    @Test
+    void deliver_countsSuppressedSendsWithoutTimingThem() throws Exception {
+        final DeduplicatingNotificationSender sender = new DeduplicatingNotificationSender(
+                message -> DeliveryOutcome.DELIVERED,
+                new NotificationDeduplicator(60_000, 100, false, System::currentTimeMillis));
+        final EmailNotification notification = new EmailNotification(sender);
+
+        dispatcher.submit(notification, "otp", NotificationPriority.HIGH).get(5, TimeUnit.SECONDS);
+        dispatcher.submit(notification, "otp", NotificationPriority.HIGH).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, registry.get("notification.suppressed").counter().count());
+        assertEquals(1, registry.get("notification.delivery.latency").tag("priority", "HIGH").timer().count());
+    }
+
+    @Test
+    void metrics_registerKnownNotificationsBeforeTheFirstDelivery() {
+        final MeterRegistry fresh = new SimpleMeterRegistry();
+        new NotificationMetrics(fresh, List.of(new RecordingNotification(0)));
+
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            assertEquals(0, fresh.get("notification.delivery.latency")
+                    .tag("notification", "RecordingNotification")
+                    .tag("priority", priority.name())
+                    .timer().count());
+        }
+        assertEquals(0, fresh.get("notification.suppressed").counter().count());
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.bridge.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConsoleOutputTest {
+
+    @Test
+    void sendersWriteRenderedMessagesToTheChannel() {
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        final ConsoleOutput output = new ConsoleOutput(Channels.newChannel(captured));
+
+        new EmailSender(output).sendNotification("Привет");
+        new SmsSender(output).sendNotification(StandardCharsets.UTF_8.encode("Hi"));
+
+        assertEquals("Sending Email with message: Привет\nSending SMS with message: Hi\n",
+                captured.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.bridge.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageTemplateTest {
+
+    private static String decode(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+
+    @Test
+    void render_wrapsMessageWithPrefixAndSuffix() {
+        final MessageTemplate template = MessageTemplate.compile("Email Notification: {message}!");
+        assertEquals("Email Notification: Hello!", decode(template.render("Hello")));
+    }
+
+    @Test
+    void render_encodesNonAsciiAsUtf8() {
+        final MessageTemplate template = MessageTemplate.compile("SMS: {message}");
+        assertEquals("SMS: Привет €", decode(template.render("Привет €")));
+    }
+
+    @Test
+    void render_encodesSurrogatePairsAndReplacesUnpairedOnes() {
+        final MessageTemplate template = MessageTemplate.compile("{message}");
+        final String message = "ok \uD83D\uDE00 \uD83D lone \uDE00";
+
+        assertEquals("ok \uD83D\uDE00 ? lone ?", decode(template.render(message)));
+        assertEquals(new String("a\u00e9\u20ac\uD83D\uDE00".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                decode(template.render("a\u00e9\u20ac\uD83D\uDE00")));
+    }
+
+    @Test
+    void render_reusesThreadBufferAndGrowsForLongMessages() {
+        final MessageTemplate template = MessageTemplate.compile("{message}");
+        final ByteBuffer first = template.render("short");
+        assertSame(first, template.render("again"));
+
+        final String longMessage = "x".repeat(10_000);
+        assertEquals(longMessage, decode(template.render(longMessage)));
+    }
+
+    @Test
+    void render_doesNotRetainBuffersAboveTheCap() {
+        final MessageTemplate template = MessageTemplate.compile("{message}");
+        final ByteBuffer retained = template.render("short");
+
+        final ByteBuffer large = template.render(ByteBuffer.allocate(MessageTemplate.MAX_RETAINED_CAPACITY + 1));
+        assertEquals(MessageTemplate.MAX_RETAINED_CAPACITY + 1, large.remaining());
+        assertSame(retained, template.render("short again"));
+        assertTrue(template.render("x".repeat(1_000)).capacity() <= MessageTemplate.MAX_RETAINED_CAPACITY);
+    }
+
+    @Test
+    void render_fromBytesKeepsSourcePosition() {
+        final MessageTemplate template = MessageTemplate.compile("Sending: {message}\n");
+        final ByteBuffer message = ByteBuffer.wrap("Hello".getBytes(StandardCharsets.UTF_8));
+        assertEquals("Sending: Hello\n", decode(template.render(message)));
+        assertEquals(0, message.position());
+    }
+
+    @Test
+    void compile_requiresPlaceholder() {
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("no placeholder"));
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.flyweight.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.flyweight.entity.Category;
+import org.example.flyweight.service.CategoryService;
+import org.example.flyweight.service.CategoryTreeService;
+import org.example.flyweight.tree.CategoryNode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+    private final CategoryTreeService categoryTreeService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Category> getCategory(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryService.getCategoryById(id));
+    }
+
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<List<CategoryNode>> getDescendants(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryTreeService.getDescendants(id));
+    }
+
+    @GetMapping("/{id}/breadcrumb")
+    public ResponseEntity<List<CategoryNode>> getBreadcrumb(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryTreeService.getBreadcrumb(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<CategoryNode> createCategory(@RequestParam String name,
+                                                       @RequestParam(required = false) Long parentId) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(categoryTreeService.createCategory(name, parentId));
+    }
+
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<Void> moveCategory(@PathVariable Long id, @RequestParam(required = false) Long parentId) {
+        categoryTreeService.moveCategory(id, parentId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.flyweight.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,11 +18,26 @@ public class Category {
     @JoinColumn(name = "category_data_id")
     private CategoryData categoryData;
 
+    // Null for a root category; the tree itself is served from CategoryTreeService
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Category parent;
+
     public Category() {
     }
 
     public Category(CategoryData categoryData) {
         this.categoryData = categoryData;
     }
+
+    public Category(CategoryData categoryData, Category parent) {
+        this.categoryData = categoryData;
+        this.parent = parent;
+    }
+
+    public Long getParentId() {
+        return parent == null ? null : parent.getId();
+    }
 }
 
@@ -1,5 +1,9 @@
 package org.example.flyweight.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
 public class CategoryDataNotFoundException extends RuntimeException {
     public CategoryDataNotFoundException() {
     }
@@ -0,0 +1,14 @@
+package org.example.flyweight.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class CategoryHierarchyException extends RuntimeException {
+    public CategoryHierarchyException() {
+    }
+
+    public CategoryHierarchyException(String message) {
+        super(message);
+    }
+}
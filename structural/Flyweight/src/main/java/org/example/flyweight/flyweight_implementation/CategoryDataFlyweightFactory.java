@@ -6,12 +6,12 @@ import org.example.flyweight.repository.CategoryDataRepository;
 import org.example.flyweight.utils.StaticMessages;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class CategoryDataFlyweightFactory {
-    private static final Map<Long, CategoryData> categoryDataCache = new HashMap<>();
+    private static final Map<Long, CategoryData> categoryDataCache = new ConcurrentHashMap<>();
 
     public static CategoryData getCategory(Long id, CategoryDataRepository repository) {
         return categoryDataCache.computeIfAbsent(
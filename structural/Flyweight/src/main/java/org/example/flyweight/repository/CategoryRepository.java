@@ -1,8 +1,15 @@
 package org.example.flyweight.repository;
 
 import org.example.flyweight.entity.Category;
+import org.example.flyweight.tree.CategoryRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    @Query("select new org.example.flyweight.tree.CategoryRow(c.id, p.id, d.name) "
+            + "from Category c left join c.parent p left join c.categoryData d")
+    List<CategoryRow> findAllRows();
 }
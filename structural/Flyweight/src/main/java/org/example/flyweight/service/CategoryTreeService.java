@@ -0,0 +1,116 @@
+package org.example.flyweight.service;
+
+import org.example.flyweight.entity.Category;
+import org.example.flyweight.entity.CategoryData;
+import org.example.flyweight.exception.CategoryNotFoundException;
+import org.example.flyweight.repository.CategoryDataRepository;
+import org.example.flyweight.repository.CategoryRepository;
+import org.example.flyweight.tree.CategoryNode;
+import org.example.flyweight.tree.CategoryTreeSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.example.flyweight.utils.StaticMessages.CATEGORY_NOT_FOUND;
+
+/**
+ * One snapshot is shared by every reader. Writers run one at a time: each checks its change against the
+ * snapshot, commits it, then swaps in a spliced copy, so the snapshot always matches the committed tree.
+ * The lock only orders writers of this instance; several instances writing the same tree need a database lock.
+ */
+@Service
+public class CategoryTreeService {
+    private final CategoryRepository categoryRepository;
+    private final CategoryDataRepository categoryDataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile CategoryTreeSnapshot snapshot;
+
+    public CategoryTreeService(CategoryRepository categoryRepository, CategoryDataRepository categoryDataRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.categoryDataRepository = categoryDataRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public CategoryTreeSnapshot getSnapshot() {
+        CategoryTreeSnapshot current = snapshot;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    current = CategoryTreeSnapshot.build(categoryRepository.findAllRows());
+                    snapshot = current;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    public List<CategoryNode> getDescendants(Long categoryId) {
+        return getSnapshot().descendants(categoryId);
+    }
+
+    public List<CategoryNode> getBreadcrumb(Long categoryId) {
+        return getSnapshot().breadcrumb(categoryId);
+    }
+
+    public CategoryNode createCategory(String name, Long parentId) {
+        return write(() -> {
+            final int depth = parentId == null ? 0 : getSnapshot().get(parentId).depth() + 1;
+            final long id = transactionTemplate.execute(status -> {
+                final Category parent = parentId == null ? null : findCategory(parentId);
+                final CategoryData categoryData = categoryDataRepository.save(new CategoryData(name));
+                return categoryRepository.save(new Category(categoryData, parent)).getId();
+            });
+            apply(tree -> tree.withLeaf(id, parentId, name));
+            return new CategoryNode(id, parentId, name, depth);
+        });
+    }
+
+    public void moveCategory(Long categoryId, Long newParentId) {
+        write(() -> {
+            // Throws for a cycle before anything is written
+            final CategoryTreeSnapshot moved = getSnapshot().withMoved(categoryId, newParentId);
+            transactionTemplate.executeWithoutResult(status -> {
+                final Category category = findCategory(categoryId);
+                category.setParent(newParentId == null ? null : findCategory(newParentId));
+            });
+            // No other writer ran since the check, so the checked copy is the committed tree
+            snapshot = moved;
+            return null;
+        });
+    }
+
+    private <T> T write(Supplier<T> change) {
+        writeLock.lock();
+        try {
+            return change.get();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Runs after the commit; if the change cannot be spliced in, the tree is reloaded so it matches the database
+    private void apply(UnaryOperator<CategoryTreeSnapshot> change) {
+        try {
+            snapshot = change.apply(getSnapshot());
+        } catch (RuntimeException e) {
+            snapshot = CategoryTreeSnapshot.build(categoryRepository.findAllRows());
+        }
+    }
+
+    private Category findCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new CategoryNotFoundException(CATEGORY_NOT_FOUND.formatted(categoryId)));
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.flyweight.tree;
+
+// parentId is null for a root; depth is 0 for a root
+public record CategoryNode(long id, Long parentId, String name, int depth) {
+}
@@ -0,0 +1,5 @@
+package org.example.flyweight.tree;
+
+// One category as loaded from the database, before it is placed in the tree
+public record CategoryRow(Long id, Long parentId, String name) {
+}
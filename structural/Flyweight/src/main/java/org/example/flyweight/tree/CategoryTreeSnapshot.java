@@ -0,0 +1,320 @@
+package org.example.flyweight.tree;
+
+import org.example.flyweight.exception.CategoryHierarchyException;
+import org.example.flyweight.exception.CategoryNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.example.flyweight.utils.StaticMessages.CATEGORY_NOT_FOUND;
+
+/**
+ * Immutable category forest laid out in preorder (an Euler-tour interval index): the subtree of the
+ * node at position p is exactly positions [p, ends[p]), so a descendant query is one array range and
+ * an ancestor test is two comparisons. Breadcrumbs follow parent positions, one step per level.
+ * Changes return a new snapshot made by splicing the arrays, without reloading or re-walking the tree.
+ */
+public final class CategoryTreeSnapshot {
+    private static final CategoryTreeSnapshot EMPTY = new CategoryTreeSnapshot(
+            new long[0], new String[0], new int[0], new int[0], new int[0], new long[0], new int[0]);
+
+    private final long[] ids;
+    private final String[] names;
+    private final int[] parents;
+    private final int[] ends;
+    private final int[] depths;
+    // ids sorted ascending, with the preorder position of each, for id lookup by binary search
+    private final long[] sortedIds;
+    private final int[] positions;
+
+    private CategoryTreeSnapshot(long[] ids, String[] names, int[] parents, int[] ends, int[] depths,
+                                 long[] sortedIds, int[] positions) {
+        this.ids = ids;
+        this.names = names;
+        this.parents = parents;
+        this.ends = ends;
+        this.depths = depths;
+        this.sortedIds = sortedIds;
+        this.positions = positions;
+    }
+
+    public static CategoryTreeSnapshot empty() {
+        return EMPTY;
+    }
+
+    // Rows whose parent is missing are treated as roots; siblings are ordered by id
+    public static CategoryTreeSnapshot build(List<CategoryRow> rows) {
+        final int size = rows.size();
+        final List<CategoryRow> byParent = new ArrayList<>(rows);
+        byParent.sort(Comparator.comparing((CategoryRow row) -> row.parentId() == null ? Long.MIN_VALUE : row.parentId())
+                .thenComparing(CategoryRow::id));
+        final long[] parentKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            parentKeys[i] = byParent.get(i).parentId() == null ? Long.MIN_VALUE : byParent.get(i).parentId();
+        }
+        final long[] knownIds = rows.stream().mapToLong(CategoryRow::id).sorted().toArray();
+
+        final long[] ids = new long[size];
+        final String[] names = new String[size];
+        final int[] parents = new int[size];
+        final int[] ends = new int[size];
+        final int[] depths = new int[size];
+        int next = 0;
+        // Iterative depth-first walk, so deep trees cannot overflow the stack
+        final int[] stack = new int[size + 1];
+        final int[] childCursor = new int[size];
+        for (CategoryRow root : byParent) {
+            if (root.parentId() != null && Arrays.binarySearch(knownIds, root.parentId()) >= 0) {
+                continue;
+            }
+            int top = 0;
+            stack[top] = next;
+            place(root, next++, -1, 0, ids, names, parents, depths, childCursor, parentKeys);
+            while (top >= 0) {
+                final int position = stack[top];
+                final int child = childCursor[position];
+                if (child < size && parentKeys[child] == ids[position]) {
+                    childCursor[position]++;
+                    stack[++top] = next;
+                    place(byParent.get(child), next++, position, depths[position] + 1, ids, names, parents, depths, childCursor, parentKeys);
+                } else {
+                    ends[position] = next;
+                    top--;
+                }
+            }
+        }
+        if (next != size) {
+            throw new CategoryHierarchyException("Category hierarchy contains a cycle");
+        }
+        return new CategoryTreeSnapshot(ids, names, parents, ends, depths, null, null).withIdIndex();
+    }
+
+    private static void place(CategoryRow row, int position, int parent, int depth, long[] ids, String[] names,
+                              int[] parents, int[] depths, int[] childCursor, long[] parentKeys) {
+        ids[position] = row.id();
+        names[position] = row.name();
+        parents[position] = parent;
+        depths[position] = depth;
+        // First row whose parent is this node, or past the end if it has no children
+        int low = 0;
+        int high = parentKeys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (parentKeys[mid] < row.id()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        childCursor[position] = low;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    public CategoryNode get(long id) {
+        return node(positionOf(id));
+    }
+
+    public int subtreeSize(long id) {
+        final int position = positionOf(id);
+        return ends[position] - position;
+    }
+
+    // All descendants in preorder, not including the category itself
+    public List<CategoryNode> descendants(long id) {
+        final int position = positionOf(id);
+        final List<CategoryNode> result = new ArrayList<>(ends[position] - position - 1);
+        for (int i = position + 1; i < ends[position]; i++) {
+            result.add(node(i));
+        }
+        return result;
+    }
+
+    public long[] descendantIds(long id) {
+        final int position = positionOf(id);
+        return Arrays.copyOfRange(ids, position + 1, ends[position]);
+    }
+
+    // Root first, ending with the category itself
+    public List<CategoryNode> breadcrumb(long id) {
+        int position = positionOf(id);
+        final CategoryNode[] path = new CategoryNode[depths[position] + 1];
+        for (int i = path.length - 1; i >= 0; i--, position = parents[position]) {
+            path[i] = node(position);
+        }
+        return Arrays.asList(path);
+    }
+
+    public boolean isAncestor(long ancestorId, long descendantId) {
+        final int ancestor = positionOf(ancestorId);
+        final int descendant = positionOf(descendantId);
+        return ancestor < descendant && descendant < ends[ancestor];
+    }
+
+    // Adds a category as the last child of parentId, or as a new root when parentId is null
+    public CategoryTreeSnapshot withLeaf(long id, Long parentId, String name) {
+        if (contains(id)) {
+            throw new CategoryHierarchyException("Category %d is already in the tree".formatted(id));
+        }
+        final int parent = parentId == null ? -1 : positionOf(parentId);
+        return insert(new long[]{id}, new String[]{name}, new int[]{-1}, new int[]{1}, new int[]{0}, parent);
+    }
+
+    // Re-parents a category together with its subtree; a null parent makes it a root
+    public CategoryTreeSnapshot withMoved(long id, Long newParentId) {
+        final int start = positionOf(id);
+        final int end = ends[start];
+        if (newParentId != null) {
+            final int target = positionOf(newParentId);
+            if (target >= start && target < end) {
+                throw new CategoryHierarchyException("Category %d cannot be moved under its own subtree".formatted(id));
+            }
+        }
+        final int size = end - start;
+        final int[] blockParents = new int[size];
+        final int[] blockEnds = new int[size];
+        final int[] blockDepths = new int[size];
+        for (int i = 0; i < size; i++) {
+            blockParents[i] = i == 0 ? -1 : parents[start + i] - start;
+            blockEnds[i] = ends[start + i] - start;
+            blockDepths[i] = depths[start + i] - depths[start];
+        }
+        final CategoryTreeSnapshot without = remove(start, end);
+        return without.insert(
+                Arrays.copyOfRange(ids, start, end),
+                Arrays.copyOfRange(names, start, end),
+                blockParents, blockEnds, blockDepths,
+                newParentId == null ? -1 : without.positionOf(newParentId));
+    }
+
+    // Inserts a preorder block (positions relative to the block) as the last child of parent
+    private CategoryTreeSnapshot insert(long[] blockIds, String[] blockNames, int[] blockParents, int[] blockEnds,
+                                        int[] blockDepths, int parent) {
+        final int size = ids.length;
+        final int count = blockIds.length;
+        final int at = parent < 0 ? size : ends[parent];
+        final int baseDepth = parent < 0 ? 0 : depths[parent] + 1;
+
+        final long[] newIds = new long[size + count];
+        final String[] newNames = new String[size + count];
+        final int[] newParents = new int[size + count];
+        final int[] newEnds = new int[size + count];
+        final int[] newDepths = new int[size + count];
+        for (int i = 0; i < size; i++) {
+            final int target = i < at ? i : i + count;
+            newIds[target] = ids[i];
+            newNames[target] = names[i];
+            newParents[target] = parents[i] < at ? parents[i] : parents[i] + count;
+            // Ancestors of the insertion point, and every node after it, now end later
+            newEnds[target] = ends[i] > at || (ends[i] == at && i <= parent) ? ends[i] + count : ends[i];
+            newDepths[target] = depths[i];
+        }
+        for (int j = 0; j < count; j++) {
+            newIds[at + j] = blockIds[j];
+            newNames[at + j] = blockNames[j];
+            newParents[at + j] = blockParents[j] < 0 ? parent : at + blockParents[j];
+            newEnds[at + j] = at + blockEnds[j];
+            newDepths[at + j] = baseDepth + blockDepths[j];
+        }
+
+        final long[] addedIds = blockIds.clone();
+        final int[] addedPositions = new int[count];
+        final Integer[] order = new Integer[count];
+        for (int j = 0; j < count; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, Comparator.comparingLong(j -> blockIds[j]));
+        for (int j = 0; j < count; j++) {
+            addedIds[j] = blockIds[order[j]];
+            addedPositions[j] = at + order[j];
+        }
+        final long[] newSortedIds = new long[size + count];
+        final int[] newPositions = new int[size + count];
+        int left = 0;
+        int right = 0;
+        for (int k = 0; k < newSortedIds.length; k++) {
+            if (right == count || (left < size && sortedIds[left] < addedIds[right])) {
+                newSortedIds[k] = sortedIds[left];
+                newPositions[k] = positions[left] < at ? positions[left] : positions[left] + count;
+                left++;
+            } else {
+                newSortedIds[k] = addedIds[right];
+                newPositions[k] = addedPositions[right];
+                right++;
+            }
+        }
+        return new CategoryTreeSnapshot(newIds, newNames, newParents, newEnds, newDepths, newSortedIds, newPositions);
+    }
+
+    // Removes the subtree occupying positions [start, end)
+    private CategoryTreeSnapshot remove(int start, int end) {
+        final int size = ids.length;
+        final int count = end - start;
+        final long[] newIds = new long[size - count];
+        final String[] newNames = new String[size - count];
+        final int[] newParents = new int[size - count];
+        final int[] newEnds = new int[size - count];
+        final int[] newDepths = new int[size - count];
+        for (int i = 0; i < size; i++) {
+            if (i >= start && i < end) {
+                continue;
+            }
+            final int target = i < start ? i : i - count;
+            newIds[target] = ids[i];
+            newNames[target] = names[i];
+            newParents[target] = parents[i] < end ? parents[i] : parents[i] - count;
+            // Ancestors of the removed block, and every node after it, now end earlier
+            newEnds[target] = ends[i] >= end ? ends[i] - count : ends[i];
+            newDepths[target] = depths[i];
+        }
+
+        final long[] newSortedIds = new long[size - count];
+        final int[] newPositions = new int[size - count];
+        int k = 0;
+        for (int j = 0; j < size; j++) {
+            if (positions[j] >= start && positions[j] < end) {
+                continue;
+            }
+            newSortedIds[k] = sortedIds[j];
+            newPositions[k++] = positions[j] < start ? positions[j] : positions[j] - count;
+        }
+        return new CategoryTreeSnapshot(newIds, newNames, newParents, newEnds, newDepths, newSortedIds, newPositions);
+    }
+
+    private CategoryTreeSnapshot withIdIndex() {
+        final int size = ids.length;
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> ids[i]));
+        final long[] newSortedIds = new long[size];
+        final int[] newPositions = new int[size];
+        for (int k = 0; k < size; k++) {
+            newSortedIds[k] = ids[order[k]];
+            newPositions[k] = order[k];
+        }
+        return new CategoryTreeSnapshot(ids, names, parents, ends, depths, newSortedIds, newPositions);
+    }
+
+    private int positionOf(long id) {
+        final int index = Arrays.binarySearch(sortedIds, id);
+        if (index < 0) {
+            throw new CategoryNotFoundException(CATEGORY_NOT_FOUND.formatted(id));
+        }
+        return positions[index];
+    }
+
+    private CategoryNode node(int position) {
+        final int parent = parents[position];
+        return new CategoryNode(ids[position], parent < 0 ? null : ids[parent], names[position], depths[position]);
+    }
+}
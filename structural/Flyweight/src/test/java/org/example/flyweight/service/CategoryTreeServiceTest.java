@@ -0,0 +1,125 @@
+package org.example.flyweight.service;
+
+import org.example.flyweight.entity.Category;
+import org.example.flyweight.entity.CategoryData;
+import org.example.flyweight.exception.CategoryHierarchyException;
+import org.example.flyweight.repository.CategoryDataRepository;
+import org.example.flyweight.repository.CategoryRepository;
+import org.example.flyweight.tree.CategoryNode;
+import org.example.flyweight.tree.CategoryRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CategoryTreeServiceTest {
+
+    private final Map<Long, Category> categories = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CategoryDataRepository categoryDataRepository = mock(CategoryDataRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private CategoryTreeService categoryTreeService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(categoryRepository.findById(any())).thenAnswer(call -> Optional.ofNullable(categories.get(call.<Long>getArgument(0))));
+        when(categoryRepository.save(any())).thenAnswer(call -> {
+            final Category category = call.getArgument(0);
+            category.setId(ids.incrementAndGet());
+            categories.put(category.getId(), category);
+            return category;
+        });
+        when(categoryRepository.findAllRows()).thenAnswer(call -> categories.values().stream()
+                .map(c -> new CategoryRow(c.getId(), c.getParentId(), c.getCategoryData().getName()))
+                .toList());
+        when(categoryDataRepository.save(any())).thenAnswer(call -> call.getArgument(0));
+        // A slow transaction widens the window in which concurrent writers could interleave
+        when(transactionManager.getTransaction(any())).thenAnswer(call -> {
+            Thread.sleep(20);
+            return new SimpleTransactionStatus();
+        });
+        categoryTreeService = new CategoryTreeService(categoryRepository, categoryDataRepository, transactionManager);
+    }
+
+    @Test
+    void testCreateCategoryUpdatesTree() {
+        final CategoryNode root = categoryTreeService.createCategory("Root", null);
+        final CategoryNode child = categoryTreeService.createCategory("Child", root.id());
+
+        assertEquals(1, child.depth());
+        assertEquals(List.of(child), categoryTreeService.getDescendants(root.id()));
+        assertEquals(List.of(root.id(), child.id()),
+                categoryTreeService.getBreadcrumb(child.id()).stream().map(CategoryNode::id).toList());
+    }
+
+    @Test
+    void testConcurrentOpposingMovesCannotCreateCycle() throws Exception {
+        final long first = categoryTreeService.createCategory("First", null).id();
+        final long second = categoryTreeService.createCategory("Second", null).id();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (long[] move : new long[][]{{first, second}, {second, first}}) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    categoryTreeService.moveCategory(move[0], move[1]);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, failures.size());
+        assertInstanceOf(CategoryHierarchyException.class, failures.get(0));
+        // Exactly one category got a parent, and the snapshot agrees with the stored rows
+        assertEquals(1, categories.values().stream().filter(c -> c.getParent() != null).count());
+        assertEquals(1, categoryTreeService.getSnapshot().descendants(categories.values().stream()
+                .filter(c -> c.getParent() == null).findFirst().orElseThrow().getId()).size());
+    }
+
+    @Test
+    void testFailedTransactionLeavesTreeUnchanged() {
+        final long root = categoryTreeService.createCategory("Root", null).id();
+        when(categoryDataRepository.save(any())).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> categoryTreeService.createCategory("Child", root));
+        assertEquals(1, categoryTreeService.getSnapshot().size());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testTreeIsReloadedWhenChangeCannotBeSpliced() {
+        final long root = categoryTreeService.createCategory("Root", null).id();
+        categoryTreeService.createCategory("Other", null);
+        // The database hands out an id the snapshot already holds (the row was replaced behind this instance),
+        // so the splice fails and the tree is reloaded
+        ids.set(root);
+
+        final CategoryNode child = categoryTreeService.createCategory("Child", root);
+
+        assertEquals(root + 1, child.id());
+        assertEquals(new CategoryNode(root + 1, root, "Child", 1), categoryTreeService.getSnapshot().get(root + 1));
+        assertEquals(2, categoryTreeService.getSnapshot().size());
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.flyweight.tree;
+
+import org.example.flyweight.exception.CategoryHierarchyException;
+import org.example.flyweight.exception.CategoryNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTreeSnapshotTest {
+
+    // 1 -> (2 -> (4, 5), 3), 6
+    private static final List<CategoryRow> ROWS = List.of(
+            new CategoryRow(1L, null, "Root"),
+            new CategoryRow(2L, 1L, "Electronics"),
+            new CategoryRow(3L, 1L, "Books"),
+            new CategoryRow(4L, 2L, "Phones"),
+            new CategoryRow(5L, 2L, "Laptops"),
+            new CategoryRow(6L, null, "Archive")
+    );
+
+    @Test
+    void testDescendantsAndBreadcrumb() {
+        final CategoryTreeSnapshot tree = CategoryTreeSnapshot.build(ROWS);
+
+        assertEquals(6, tree.size());
+        assertArrayEquals(new long[]{2, 4, 5, 3}, tree.descendantIds(1));
+        assertEquals(List.of(4L, 5L), tree.descendants(2).stream().map(CategoryNode::id).toList());
+        assertEquals(0, tree.descendants(6).size());
+        assertEquals(List.of(1L, 2L, 5L), tree.breadcrumb(5).stream().map(CategoryNode::id).toList());
+        assertEquals(new CategoryNode(5, 2L, "Laptops", 2), tree.get(5));
+        assertTrue(tree.isAncestor(1, 4));
+        assertFalse(tree.isAncestor(3, 4));
+        assertFalse(tree.isAncestor(4, 4));
+    }
+
+    @Test
+    void testWithLeafAndWithMoved() {
+        final CategoryTreeSnapshot tree = CategoryTreeSnapshot.build(ROWS)
+                .withLeaf(7, 2L, "Tablets")
+                .withMoved(2, 6L);
+
+        assertArrayEquals(new long[]{3}, tree.descendantIds(1));
+        assertArrayEquals(new long[]{2, 4, 5, 7}, tree.descendantIds(6));
+        assertEquals(List.of(6L, 2L, 7L), tree.breadcrumb(7).stream().map(CategoryNode::id).toList());
+        assertEquals(2, tree.get(7).depth());
+        assertEquals(5, tree.subtreeSize(6));
+    }
+
+    @Test
+    void testInvalidChanges() {
+        final CategoryTreeSnapshot tree = CategoryTreeSnapshot.build(ROWS);
+
+        assertThrows(CategoryHierarchyException.class, () -> tree.withMoved(1, 4L));
+        assertThrows(CategoryHierarchyException.class, () -> tree.withLeaf(3, 1L, "Duplicate"));
+        assertThrows(CategoryNotFoundException.class, () -> tree.withLeaf(8, 99L, "Orphan"));
+        assertThrows(CategoryNotFoundException.class, () -> tree.descendants(99));
+        assertThrows(CategoryHierarchyException.class, () -> CategoryTreeSnapshot.build(List.of(
+                new CategoryRow(1L, 2L, "A"), new CategoryRow(2L, 1L, "B"))));
+    }
+
+    @Test
+    void testIncrementalChangesMatchFullRebuild() {
+        final Random random = new Random(42);
+        final Map<Long, CategoryRow> rows = new HashMap<>();
+        CategoryTreeSnapshot tree = CategoryTreeSnapshot.empty();
+        for (long id = 1; id <= 2_000; id++) {
+            final Long parentId = id == 1 || random.nextInt(20) == 0 ? null : 1 + (long) random.nextInt((int) id - 1);
+            rows.put(id, new CategoryRow(id, parentId, "Category " + id));
+            tree = tree.withLeaf(id, parentId, "Category " + id);
+        }
+        for (int i = 0; i < 500; i++) {
+            final long id = 1 + random.nextInt(rows.size());
+            final long target = 1 + random.nextInt(rows.size());
+            final Long parentId = random.nextInt(10) == 0 ? null : target;
+            if (parentId != null && (parentId == id || tree.isAncestor(id, parentId))) {
+                continue;
+            }
+            rows.put(id, new CategoryRow(id, parentId, "Category " + id));
+            tree = tree.withMoved(id, parentId);
+        }
+
+        final CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.build(new ArrayList<>(rows.values()));
+        assertEquals(rebuilt.size(), tree.size());
+        for (long id = 1; id <= rows.size(); id++) {
+            assertEquals(rebuilt.get(id), tree.get(id));
+            assertEquals(rebuilt.breadcrumb(id), tree.breadcrumb(id));
+            // Sibling order may differ after moves, so compare descendant sets
+            assertArrayEquals(sorted(rebuilt.descendantIds(id)), sorted(tree.descendantIds(id)));
+        }
+    }
+
+    @Test
+    void testLargeTree() {
+        final List<CategoryRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            rows.add(new CategoryRow(id, id == 1 ? null : Math.max(1, id / 10), "Category " + id));
+        }
+        rows.sort(Comparator.comparing(CategoryRow::name));
+        final CategoryTreeSnapshot tree = CategoryTreeSnapshot.build(rows).withLeaf(100_001, 99_999L, "Leaf");
+
+        assertEquals(100_000, tree.descendantIds(1).length);
+        assertEquals(1_112, tree.subtreeSize(10));
+        assertEquals(List.of(1L, 9L, 99L, 999L, 9_999L, 99_999L, 100_001L),
+                tree.breadcrumb(100_001).stream().map(CategoryNode::id).toList());
+    }
+
+    private static long[] sorted(long[] ids) {
+        final long[] copy = ids.clone();
+        java.util.Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.loadtest;
+
+import org.example.loadtest.app.EmbeddedApplication;
+import org.example.loadtest.app.ModuleClasspath;
+import org.example.loadtest.app.StandIn;
+import org.example.loadtest.load.HttpRequestSender;
+import org.example.loadtest.load.LoadResult;
+import org.example.loadtest.load.OpenModelLoadGenerator;
+import org.example.loadtest.report.ReportWriter;
+import org.example.loadtest.report.ScenarioReport;
+import org.example.loadtest.scenario.Endpoint;
+import org.example.loadtest.scenario.TargetApplication;
+
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts each target application in this JVM, drives every endpoint at a constant arrival rate after
+ * a warmup, stops the application and writes the report. Applications run one at a time so they do
+ * not compete for the CPU.
+ * <pre>
+ * mvn compile exec:java -Dexec.args="--rate=200 --duration=30 --targets=adapter,bridge"
+ * </pre>
+ */
+public class LoadTestApplication {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final List<String> COMMON_ARGUMENTS = List.of(
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN"
+    );
+
+    public static void main(String[] args) throws Exception {
+        final LoadTestOptions options = LoadTestOptions.parse(args);
+        final Instant runAt = Instant.now();
+        final Path workDir = Files.createTempDirectory("loadtest");
+        final OpenModelLoadGenerator generator = new OpenModelLoadGenerator(options.maxInFlight(), REQUEST_TIMEOUT);
+        final HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        final List<ScenarioReport> reports = new ArrayList<>();
+
+        for (TargetApplication target : options.targets()) {
+            final List<URL> classpath = new ArrayList<>(ModuleClasspath.resolve(
+                    options.projectRoot().resolve(target.getModulePath()), options.mavenCommand(), !options.skipBuild()));
+            try (StandIn standIn = target.startStandIn(workDir, options.vendorLatencyMillis());
+                 EmbeddedApplication application = start(target, classpath, standIn)) {
+                final String baseUrl = "http://localhost:" + application.getPort();
+                for (Endpoint endpoint : target.getEndpoints()) {
+                    final HttpRequestSender sender = new HttpRequestSender(httpClient, baseUrl, endpoint.path(), REQUEST_TIMEOUT);
+                    System.err.printf("%s: warming up for %ds%n", endpoint.id(), options.warmupSeconds());
+                    generator.run(sender, options.rate(), Duration.ofSeconds(options.warmupSeconds()));
+                    System.err.printf("%s: %.0f req/s for %ds%n", endpoint.id(), options.rate(), options.durationSeconds());
+                    final LoadResult result = generator.run(sender, options.rate(), Duration.ofSeconds(options.durationSeconds()));
+                    reports.add(ScenarioReport.of(endpoint, options.rate(), options.durationSeconds(), result));
+                }
+            }
+        }
+
+        final Path runFile = new ReportWriter(options.reportDir()).write(runAt, reports, System.err);
+        System.err.println("Report written to " + runFile);
+        // The applications' non-daemon threads may outlive their contexts
+        System.exit(0);
+    }
+
+    private static EmbeddedApplication start(TargetApplication target, List<URL> classpath, StandIn standIn) {
+        classpath.addAll(standIn.classpath());
+        final List<String> arguments = new ArrayList<>(COMMON_ARGUMENTS);
+        arguments.addAll(standIn.arguments());
+        return EmbeddedApplication.start(target.name(), target.getMainClass(), classpath, arguments);
+    }
+}
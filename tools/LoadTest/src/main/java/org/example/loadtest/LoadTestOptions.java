@@ -0,0 +1,54 @@
+package org.example.loadtest;
+
+import org.example.loadtest.scenario.TargetApplication;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options as --key=value:
+ * targets (comma-separated, default all), rate (requests/s per endpoint), duration and warmup (seconds),
+ * max-in-flight, vendor-latency-ms, project-root, report-dir, maven, skip-build.
+ */
+public record LoadTestOptions(List<TargetApplication> targets, double rate, long durationSeconds, long warmupSeconds,
+                              int maxInFlight, long vendorLatencyMillis, Path projectRoot, Path reportDir,
+                              String mavenCommand, boolean skipBuild) {
+    private static final Set<String> KEYS = Set.of("targets", "rate", "duration", "warmup", "max-in-flight",
+            "vendor-latency-ms", "project-root", "report-dir", "maven", "skip-build");
+
+    public static LoadTestOptions parse(String... args) {
+        final Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            final int separator = arg.indexOf('=');
+            final String key = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown option --" + key + "; expected one of " + KEYS);
+            }
+            values.put(key, separator < 0 ? "true" : arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                values.containsKey("targets")
+                        ? Arrays.stream(values.get("targets").split(","))
+                                .map(target -> TargetApplication.valueOf(target.strip().toUpperCase(Locale.ROOT).replace('-', '_')))
+                                .toList()
+                        : List.of(TargetApplication.values()),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                Long.parseLong(values.getOrDefault("duration", "30")),
+                Long.parseLong(values.getOrDefault("warmup", "10")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                Long.parseLong(values.getOrDefault("vendor-latency-ms", "20")),
+                Path.of(values.getOrDefault("project-root", "../..")).toAbsolutePath().normalize(),
+                Path.of(values.getOrDefault("report-dir", "reports")).toAbsolutePath().normalize(),
+                values.getOrDefault("maven", "mvn"),
+                Boolean.parseBoolean(values.getOrDefault("skip-build", "false"))
+        );
+    }
+}
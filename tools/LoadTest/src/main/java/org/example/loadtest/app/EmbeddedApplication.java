@@ -0,0 +1,71 @@
+package org.example.loadtest.app;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+/**
+ * A Spring Boot application started inside this JVM from its own class loader. The loader's parent
+ * is the platform loader, so the application sees none of the harness's classes.
+ */
+public final class EmbeddedApplication implements AutoCloseable {
+    private final URLClassLoader classLoader;
+    private final AutoCloseable context;
+    private final int port;
+
+    private EmbeddedApplication(URLClassLoader classLoader, AutoCloseable context, int port) {
+        this.classLoader = classLoader;
+        this.context = context;
+        this.port = port;
+    }
+
+    public static EmbeddedApplication start(String name, String mainClass, List<URL> classpath, List<String> arguments) {
+        final URLClassLoader classLoader = new URLClassLoader(name, classpath.toArray(URL[]::new), ClassLoader.getPlatformClassLoader());
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            disableTomcatUrlHandler(classLoader);
+            final Class<?> application = classLoader.loadClass(mainClass);
+            final Object context = classLoader.loadClass("org.springframework.boot.SpringApplication")
+                    .getMethod("run", Class.class, String[].class)
+                    .invoke(null, application, arguments.toArray(String[]::new));
+            final Object environment = classLoader.loadClass("org.springframework.context.ConfigurableApplicationContext")
+                    .getMethod("getEnvironment")
+                    .invoke(context);
+            final String port = (String) classLoader.loadClass("org.springframework.core.env.PropertyResolver")
+                    .getMethod("getProperty", String.class)
+                    .invoke(environment, "local.server.port");
+            return new EmbeddedApplication(classLoader, (AutoCloseable) context, Integer.parseInt(port));
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Could not start " + name, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not start " + name, e);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    // Tomcat registers a JVM-wide URL stream handler factory, which only the first Tomcat in the JVM can do
+    private static void disableTomcatUrlHandler(ClassLoader classLoader) throws ReflectiveOperationException {
+        try {
+            classLoader.loadClass("org.apache.catalina.webresources.TomcatURLStreamHandlerFactory").getMethod("disable").invoke(null);
+        } catch (ClassNotFoundException e) {
+            // Not a Tomcat application
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            context.close();
+        } finally {
+            classLoader.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.loadtest.app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runtime classpath of one application module: its compiled classes plus the dependencies Maven
+ * resolves for it, so every application keeps its own dependency versions.
+ */
+public final class ModuleClasspath {
+    private static final String CLASSPATH_FILE = "target/loadtest-classpath.txt";
+
+    private ModuleClasspath() {
+    }
+
+    public static List<URL> resolve(Path moduleDir, String mavenCommand, boolean build) {
+        final Path classpathFile = moduleDir.resolve(CLASSPATH_FILE);
+        if (build || !Files.exists(classpathFile)) {
+            runMaven(moduleDir, mavenCommand);
+        }
+        try {
+            final List<URL> urls = new ArrayList<>();
+            urls.add(moduleDir.resolve("target/classes").toUri().toURL());
+            for (String entry : Files.readString(classpathFile, StandardCharsets.UTF_8).strip().split(File.pathSeparator)) {
+                if (!entry.isBlank()) {
+                    urls.add(Path.of(entry).toUri().toURL());
+                }
+            }
+            return urls;
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid classpath entry in " + classpathFile, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void runMaven(Path moduleDir, String mavenCommand) {
+        final ProcessBuilder process = new ProcessBuilder(
+                mavenCommand, "-B", "-q", "compile", "dependency:build-classpath",
+                "-Dmdep.includeScope=runtime", "-Dmdep.outputFile=" + CLASSPATH_FILE)
+                .directory(moduleDir.toFile())
+                .inheritIO();
+        try {
+            final int exitCode = process.start().waitFor();
+            if (exitCode != 0) {
+                throw new IllegalStateException("Building %s failed with exit code %d".formatted(moduleDir, exitCode));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not run " + mavenCommand, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building " + moduleDir, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.loadtest.app;
+
+import java.net.URL;
+import java.util.List;
+
+// What an application needs in place of its production backends: extra arguments, extra classpath
+// entries, and a resource to close after the run
+public record StandIn(List<String> arguments, List<URL> classpath, AutoCloseable resource) implements AutoCloseable {
+    public static StandIn none() {
+        return new StandIn(List.of(), List.of(), () -> {
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        resource.close();
+    }
+}
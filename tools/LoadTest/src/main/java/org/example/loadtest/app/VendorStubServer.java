@@ -0,0 +1,58 @@
+package org.example.loadtest.app;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Vendor product API for the Adapter application: GET /products/{id} and a change feed holding the
+ * same product, with a fixed artificial latency per call.
+ */
+public final class VendorStubServer implements AutoCloseable {
+    private static final String PRODUCT = "{\"productName\":\"external name\",\"cost\":101.1,\"details\":\"external product details\"}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+
+    public VendorStubServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newFixedThreadPool(16);
+        server.createContext("/products/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            final String body = exchange.getRequestURI().getPath().equals("/products/changes")
+                    ? "{\"changes\":[{\"productId\":\"external\",\"version\":1,\"product\":" + PRODUCT + "}],\"nextCursor\":\"1\",\"hasMore\":false}"
+                    : PRODUCT;
+            final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.loadtest.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongFunction;
+
+// Non-blocking GET requests; the client keeps no thread per in-flight request
+public class HttpRequestSender implements RequestSender {
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final LongFunction<String> path;
+    private final Duration timeout;
+
+    public HttpRequestSender(HttpClient httpClient, String baseUrl, LongFunction<String> path, Duration timeout) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.path = path;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public CompletableFuture<Integer> send(long sequence) {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path.apply(sequence)))
+                .timeout(timeout)
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.loadtest.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * responseTimes are measured from when each request was scheduled to start, so stalls in the
+ * generator or the application count against every request they delayed (coordinated omission
+ * correction). Dropped requests and requests left unanswered at the end of the run are included,
+ * measured up to the end of the run; unanswered ones also count as errors. serviceTimes are measured
+ * from when the request was actually sent, for answered requests only.
+ */
+public record LoadResult(long scheduled, long completed, long errors, long dropped, long elapsedNanos,
+                         Histogram responseTimes, Histogram serviceTimes) {
+
+    public double throughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : completed * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.loadtest.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Constant-arrival-rate load: request i is due at start + i / rate whether or not earlier requests
+ * have completed, so a slow application sees the queue grow instead of the load backing off. At most
+ * maxInFlight requests are outstanding; a request due while the limit is reached is counted as dropped.
+ * Dropped requests, and requests still unanswered when the drain timeout expires, are recorded in the
+ * response times with the time from their intended start to the end of the run. When the application
+ * stalls, these are the slowest requests, so leaving them out would hide exactly the stall.
+ */
+public class OpenModelLoadGenerator {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+
+    public OpenModelLoadGenerator(int maxInFlight, Duration drainTimeout) {
+        this.maxInFlight = maxInFlight;
+        this.drainTimeout = drainTimeout;
+    }
+
+    public LoadResult run(RequestSender sender, double ratePerSecond, Duration duration) {
+        final long total = (long) (ratePerSecond * duration.toNanos() / 1_000_000_000d);
+        final double intervalNanos = 1_000_000_000d / ratePerSecond;
+        final Histogram responseTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final Histogram serviceTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong lastCompletion = new AtomicLong();
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        // Intended start of every request that has been sent but not answered, claimed by whoever removes it
+        final Map<Long, Long> pending = new ConcurrentHashMap<>();
+        long[] droppedIntended = new long[16];
+        int dropped = 0;
+
+        final long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            final long intended = start + (long) (i * intervalNanos);
+            for (long delay = intended - System.nanoTime(); delay > 0; delay = intended - System.nanoTime()) {
+                LockSupport.parkNanos(delay);
+            }
+            if (!inFlight.tryAcquire()) {
+                if (dropped == droppedIntended.length) {
+                    droppedIntended = Arrays.copyOf(droppedIntended, dropped * 2);
+                }
+                droppedIntended[dropped++] = intended;
+                continue;
+            }
+            final long sent = System.nanoTime();
+            final long sequence = i;
+            pending.put(sequence, intended);
+            final CompletableFuture<Integer> response;
+            try {
+                response = sender.send(i);
+            } catch (RuntimeException e) {
+                pending.remove(sequence);
+                errors.incrementAndGet();
+                inFlight.release();
+                continue;
+            }
+            response.whenComplete((status, failure) -> {
+                final long now = System.nanoTime();
+                inFlight.release();
+                // Already recorded as unanswered when the drain timed out
+                if (pending.remove(sequence) == null) {
+                    return;
+                }
+                responseTimes.recordValue(Math.min(now - intended, HIGHEST_TRACKABLE_NANOS));
+                serviceTimes.recordValue(Math.min(now - sent, HIGHEST_TRACKABLE_NANOS));
+                if (failure != null || status >= 400) {
+                    errors.incrementAndGet();
+                }
+                completed.incrementAndGet();
+                lastCompletion.accumulateAndGet(now, Math::max);
+            });
+        }
+
+        try {
+            inFlight.tryAcquire(maxInFlight, drainTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final long runEnd = System.nanoTime();
+        for (int i = 0; i < dropped; i++) {
+            responseTimes.recordValue(Math.min(runEnd - droppedIntended[i], HIGHEST_TRACKABLE_NANOS));
+        }
+        // Still unanswered: counted as errors (timeouts), charged for the full time they waited
+        for (Long sequence : pending.keySet()) {
+            final Long intended = pending.remove(sequence);
+            if (intended != null) {
+                responseTimes.recordValue(Math.min(runEnd - intended, HIGHEST_TRACKABLE_NANOS));
+                errors.incrementAndGet();
+            }
+        }
+        final long end = Math.max(lastCompletion.get(), start);
+        return new LoadResult(total, completed.get(), errors.get(), dropped, end - start,
+                responseTimes.copy(), serviceTimes.copy());
+    }
+}
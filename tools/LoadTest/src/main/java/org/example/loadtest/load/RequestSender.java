@@ -0,0 +1,9 @@
+package org.example.loadtest.load;
+
+import java.util.concurrent.CompletableFuture;
+
+@FunctionalInterface
+public interface RequestSender {
+    // Completes with the HTTP status code; must not block the scheduling thread
+    CompletableFuture<Integer> send(long sequence);
+}
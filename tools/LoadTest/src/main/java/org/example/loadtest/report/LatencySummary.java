@@ -0,0 +1,18 @@
+package org.example.loadtest.report;
+
+import org.HdrHistogram.Histogram;
+
+// Milliseconds
+public record LatencySummary(double p50, double p90, double p99, double p999, double max) {
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    public static LatencySummary of(Histogram histogram) {
+        return new LatencySummary(
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes each run as run-&lt;timestamp&gt;.json and appends one row per scenario to history.csv, then
+ * prints each scenario next to its previous run at the same target rate, so throughput and tail
+ * latency can be compared.
+ */
+public class ReportWriter {
+    private static final String HISTORY_HEADER = "run,scenario,target_rate,duration_s,scheduled,completed,errors,dropped,"
+            + "throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms";
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path reportDir;
+
+    public ReportWriter(Path reportDir) {
+        this.reportDir = reportDir;
+    }
+
+    public Path write(Instant runAt, List<ScenarioReport> reports, PrintStream out) {
+        final String runId = RUN_ID.format(runAt);
+        final Path history = reportDir.resolve("history.csv");
+        try {
+            Files.createDirectories(reportDir);
+            final Map<String, String[]> previous = readLatest(history);
+            final Path runFile = reportDir.resolve("run-" + runId + ".json");
+            OBJECT_MAPPER.writeValue(runFile.toFile(), Map.of("run", runId, "scenarios", reports));
+
+            final StringBuilder rows = new StringBuilder();
+            if (!Files.exists(history)) {
+                rows.append(HISTORY_HEADER).append('\n');
+            }
+            for (ScenarioReport report : reports) {
+                rows.append(toCsv(runId, report)).append('\n');
+            }
+            Files.writeString(history, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+            printSummary(reports, previous, out);
+            return runFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, String[]> readLatest(Path history) throws IOException {
+        final Map<String, String[]> latest = new HashMap<>();
+        if (Files.exists(history)) {
+            for (String line : Files.readAllLines(history, StandardCharsets.UTF_8)) {
+                final String[] fields = line.split(",");
+                if (!line.startsWith("run,") && fields.length == HISTORY_HEADER.split(",").length) {
+                    latest.put(key(fields[1], Double.parseDouble(fields[2])), fields);
+                }
+            }
+        }
+        return latest;
+    }
+
+    private static String toCsv(String runId, ScenarioReport report) {
+        return String.join(",",
+                runId,
+                report.scenario(),
+                format(report.targetRate()),
+                String.valueOf(report.durationSeconds()),
+                String.valueOf(report.scheduled()),
+                String.valueOf(report.completed()),
+                String.valueOf(report.errors()),
+                String.valueOf(report.dropped()),
+                format(report.throughput()),
+                format(report.responseTime().p50()),
+                format(report.responseTime().p90()),
+                format(report.responseTime().p99()),
+                format(report.responseTime().p999()),
+                format(report.responseTime().max()),
+                format(report.serviceTime().p99()));
+    }
+
+    private static void printSummary(List<ScenarioReport> reports, Map<String, String[]> previous, PrintStream out) {
+        out.printf("%-26s %10s %8s %8s %9s %9s %9s %9s %18s%n",
+                "scenario", "req/s", "errors", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "vs previous run");
+        for (ScenarioReport report : reports) {
+            final String[] last = previous.get(key(report.scenario(), report.targetRate()));
+            final String comparison = last == null ? "-" : "%s req/s, %s p99".formatted(
+                    change(report.throughput(), Double.parseDouble(last[8])),
+                    change(report.responseTime().p99(), Double.parseDouble(last[11])));
+            out.printf("%-26s %10.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %18s%n",
+                    report.scenario(), report.throughput(), report.errors(), report.dropped(),
+                    report.responseTime().p50(), report.responseTime().p99(), report.responseTime().p999(),
+                    report.responseTime().max(), comparison);
+        }
+    }
+
+    private static String key(String scenario, double targetRate) {
+        return scenario + '@' + format(targetRate);
+    }
+
+    private static String change(double current, double previous) {
+        return previous == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (current - previous) * 100 / previous);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
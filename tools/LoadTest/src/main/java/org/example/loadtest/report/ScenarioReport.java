@@ -0,0 +1,26 @@
+package org.example.loadtest.report;
+
+import org.example.loadtest.load.LoadResult;
+import org.example.loadtest.scenario.Endpoint;
+
+// responseTime is corrected for coordinated omission; serviceTime is not and is kept for comparison
+public record ScenarioReport(String scenario, String endpoint, double targetRate, long durationSeconds,
+                             long scheduled, long completed, long errors, long dropped, double throughput,
+                             LatencySummary responseTime, LatencySummary serviceTime) {
+
+    public static ScenarioReport of(Endpoint endpoint, double targetRate, long durationSeconds, LoadResult result) {
+        return new ScenarioReport(
+                endpoint.id(),
+                endpoint.description(),
+                targetRate,
+                durationSeconds,
+                result.scheduled(),
+                result.completed(),
+                result.errors(),
+                result.dropped(),
+                result.throughputPerSecond(),
+                LatencySummary.of(result.responseTimes()),
+                LatencySummary.of(result.serviceTimes())
+        );
+    }
+}
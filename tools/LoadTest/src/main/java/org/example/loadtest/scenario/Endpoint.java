@@ -0,0 +1,7 @@
+package org.example.loadtest.scenario;
+
+import java.util.function.LongFunction;
+
+// path maps the request sequence number to a request path, so requests can vary ids or messages
+public record Endpoint(String id, String description, LongFunction<String> path) {
+}
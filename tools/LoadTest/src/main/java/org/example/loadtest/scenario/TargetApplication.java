@@ -0,0 +1,101 @@
+package org.example.loadtest.scenario;
+
+import org.example.loadtest.app.StandIn;
+import org.example.loadtest.app.VendorStubServer;
+import org.h2.Driver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public enum TargetApplication {
+    FLYWEIGHT("structural/Flyweight", "org.example.flyweight.FlyweightApplication", List.of(
+            new Endpoint("flyweight-category", "GET /categories/{id}", i -> "/categories/" + (1 + i % TargetApplication.SEEDED_CATEGORIES))
+    )) {
+        // In-memory H2 in PostgreSQL mode replaces the database, seeded with SEEDED_CATEGORIES categories
+        @Override
+        public StandIn startStandIn(Path workDir, long vendorLatencyMillis) {
+            try {
+                final Path seed = workDir.resolve("flyweight-seed.sql");
+                Files.writeString(seed, IntStream.rangeClosed(1, SEEDED_CATEGORIES)
+                        .mapToObj(i -> "INSERT INTO category_data(name) VALUES ('Category %d');\nINSERT INTO category(category_data_id) VALUES (%d);".formatted(i, i))
+                        .collect(Collectors.joining("\n")), StandardCharsets.UTF_8);
+                return new StandIn(List.of(
+                        "--spring.datasource.url=jdbc:h2:mem:flyweight;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.defer-datasource-initialization=true",
+                        "--spring.sql.init.mode=always",
+                        "--spring.sql.init.data-locations=" + seed.toUri()
+                ), List.of(locationOf(Driver.class)), () -> Files.deleteIfExists(seed));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    },
+    CHAIN_OF_RESPONSIBILITY("behavioral/ChainOfResponsibility", "org.example.chainofresponsibility.ChainOfResponsibilityApplication", List.of(
+            new Endpoint("chain-open-file", "GET /open-file?fileName=report.pdf", i -> "/open-file?fileName=report.pdf")
+    )),
+    BRIDGE("structural/Bridge", "org.example.bridge.BridgeApplication", List.of(
+            // Distinct messages, so deduplication does not absorb the load
+            new Endpoint("bridge-send-email", "GET /notify/sendEmail", i -> "/notify/sendEmail?message=load-test-" + i),
+            new Endpoint("bridge-send-sms", "GET /notify/sendSms", i -> "/notify/sendSms?message=load-test-" + i)
+    )),
+    ADAPTER("structural/Adapter", "org.example.adapter.AdapterApplication", List.of(
+            new Endpoint("adapter-external-product", "GET /products/external", i -> "/products/external")
+    )) {
+        @Override
+        public StandIn startStandIn(Path workDir, long vendorLatencyMillis) {
+            try {
+                final VendorStubServer vendor = new VendorStubServer(vendorLatencyMillis);
+                return new StandIn(List.of("--external.product.api.base-url=" + vendor.getBaseUrl()), List.of(), vendor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    static final int SEEDED_CATEGORIES = 1000;
+
+    private final String modulePath;
+    private final String mainClass;
+    private final List<Endpoint> endpoints;
+
+    TargetApplication(String modulePath, String mainClass, List<Endpoint> endpoints) {
+        this.modulePath = modulePath;
+        this.mainClass = mainClass;
+        this.endpoints = endpoints;
+    }
+
+    public StandIn startStandIn(Path workDir, long vendorLatencyMillis) {
+        return StandIn.none();
+    }
+
+    public String getModulePath() {
+        return modulePath;
+    }
+
+    public String getMainClass() {
+        return mainClass;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    private static URL locationOf(Class<?> type) {
+        try {
+            return type.getProtectionDomain().getCodeSource().getLocation().toURI().toURL();
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new IllegalStateException("Cannot locate " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.loadtest.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenModelLoadGeneratorTest {
+    private static final long STALL_MILLIS = 300;
+
+    @Test
+    void testStallIsChargedToEveryDelayedRequest() {
+        // The 10th send blocks the scheduling thread, as a synchronous client would, so the next
+        // requests leave late but each is still answered immediately once sent
+        final RequestSender sender = sequence -> {
+            if (sequence == 10) {
+                sleep(STALL_MILLIS);
+            }
+            return CompletableFuture.completedFuture(200);
+        };
+
+        final LoadResult result = new OpenModelLoadGenerator(100, Duration.ofSeconds(1)).run(sender, 100, Duration.ofSeconds(1));
+
+        assertEquals(100, result.scheduled());
+        assertEquals(100, result.completed());
+        assertEquals(0, result.errors());
+        // Uncorrected, only the stalled request itself looks slow
+        assertTrue(result.serviceTimes().getValueAtPercentile(90) < TimeUnit.MILLISECONDS.toNanos(50));
+        // Corrected, the ~30 requests due during the stall are charged for the time they waited
+        assertTrue(result.responseTimes().getValueAtPercentile(90) > TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(result.responseTimes().getMaxValue() >= TimeUnit.MILLISECONDS.toNanos(STALL_MILLIS));
+    }
+
+    @Test
+    void testRequestsBeyondInFlightLimitAreDropped() {
+        final CompletableFuture<Integer> never = new CompletableFuture<>();
+
+        final LoadResult result = new OpenModelLoadGenerator(5, Duration.ofMillis(100)).run(sequence -> never, 200, Duration.ofMillis(100));
+
+        assertEquals(20, result.scheduled());
+        assertEquals(0, result.completed());
+        assertEquals(15, result.dropped());
+        // Neither the dropped nor the never-answered requests disappear from the percentiles
+        assertEquals(5, result.errors());
+        assertEquals(20, result.responseTimes().getTotalCount());
+        assertEquals(0, result.serviceTimes().getTotalCount());
+        assertTrue(result.responseTimes().getValueAtPercentile(50) >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void testErrorStatusesAndFailuresAreCounted() {
+        final LoadResult result = new OpenModelLoadGenerator(10, Duration.ofSeconds(1)).run(sequence -> switch ((int) (sequence % 3)) {
+            case 0 -> CompletableFuture.completedFuture(200);
+            case 1 -> CompletableFuture.completedFuture(503);
+            default -> CompletableFuture.failedFuture(new RuntimeException("connection refused"));
+        }, 300, Duration.ofMillis(100));
+
+        assertEquals(30, result.completed());
+        assertEquals(20, result.errors());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
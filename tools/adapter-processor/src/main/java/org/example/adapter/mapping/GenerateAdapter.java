@@ -0,0 +1,22 @@
+package org.example.adapter.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates, at compile time, a final class implementing {@link #target()} from the annotated source type.
+ * Every getter of the target interface is filled from the source getter with the same property name,
+ * unless a {@link Mapping} names another one. Values are read and converted once, in the constructor.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateAdapter {
+    Class<?> target();
+
+    // Defaults to <SourceName><TargetName>Adapter in the source package
+    String name() default "";
+
+    Mapping[] mappings() default {};
+}
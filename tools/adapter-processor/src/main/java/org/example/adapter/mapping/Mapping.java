@@ -0,0 +1,18 @@
+package org.example.adapter.mapping;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.CLASS)
+@Target({})
+public @interface Mapping {
+    // Property of the target interface, e.g. "price" for getPrice()
+    String target();
+
+    // Property of the source type, e.g. "priceCents" for getPriceCents()
+    String source();
+
+    // For integral sources mapped to BigDecimal: the value is unscaled, e.g. 2 for cents
+    int scale() default -1;
+}
@@ -0,0 +1,235 @@
+package org.example.adapter.mapping.processor;
+
+import org.example.adapter.mapping.GenerateAdapter;
+import org.example.adapter.mapping.Mapping;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the adapter classes requested by {@link GenerateAdapter}. The generated code is plain field
+ * reads and static conversions, with no reflection, so it costs nothing at startup and inlines like
+ * hand-written code. A floating-point source mapped to {@code BigDecimal} must be finite: NaN or an
+ * infinity fails the adapter's constructor with an {@link IllegalArgumentException} naming the property,
+ * the exception hand-written adapters throw for a value they cannot map.
+ */
+@SupportedAnnotationTypes("org.example.adapter.mapping.GenerateAdapter")
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class AdapterProcessor extends AbstractProcessor {
+    private static final String BIG_DECIMAL = "java.math.BigDecimal";
+    private static final String REQUIRE_FINITE = "requireFinite";
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateAdapter.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@GenerateAdapter is only supported on classes");
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement source) {
+        final GenerateAdapter annotation = source.getAnnotation(GenerateAdapter.class);
+        final TypeElement target = (TypeElement) processingEnv.getTypeUtils().asElement(targetType(annotation));
+        if (target.getKind() != ElementKind.INTERFACE) {
+            error(source, "Adapter target " + target.getQualifiedName() + " must be an interface");
+            return;
+        }
+
+        final Map<String, Mapping> mappings = new HashMap<>();
+        for (Mapping mapping : annotation.mappings()) {
+            mappings.put(mapping.target(), mapping);
+        }
+        final Map<String, ExecutableElement> sourceGetters = getters(source);
+
+        final List<Property> properties = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(target))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            final String name = propertyName(method);
+            if (name == null || !method.getParameters().isEmpty()) {
+                error(source, "Cannot generate " + target.getSimpleName() + "." + method.getSimpleName() + ": not a getter");
+                return;
+            }
+            final Mapping mapping = mappings.remove(name);
+            final String sourceName = mapping == null ? name : mapping.source();
+            final ExecutableElement getter = sourceGetters.get(sourceName);
+            if (getter == null) {
+                error(source, "No getter for property '" + sourceName + "' to map to " + target.getSimpleName() + "." + name);
+                return;
+            }
+            final TypeMirror from = getter.getReturnType();
+            final int scale = mapping == null ? -1 : mapping.scale();
+            final String read = "source." + getter.getSimpleName() + "()";
+            final String conversion = convert(read, from, method.getReturnType(), scale, name);
+            if (conversion == null) {
+                error(source, "Cannot convert " + from + " " + sourceName + " to " + method.getReturnType());
+                return;
+            }
+            // Reference sources that need converting are read into a local once and null-checked
+            final boolean nullable = !from.getKind().isPrimitive() && !conversion.equals(read);
+            properties.add(new Property(name, method.getSimpleName().toString(), method.getReturnType().toString(),
+                    from.toString(), read, nullable ? convert(name + "Value", from, method.getReturnType(), scale, name) : conversion, nullable));
+        }
+        if (!mappings.isEmpty()) {
+            error(source, "Mappings for unknown target properties: " + mappings.keySet());
+            return;
+        }
+
+        final String packageName = ((PackageElement) source.getEnclosingElement()).getQualifiedName().toString();
+        final String className = annotation.name().isEmpty()
+                ? source.getSimpleName().toString() + target.getSimpleName() + "Adapter"
+                : annotation.name();
+        write(source, packageName, className, target.getQualifiedName().toString(), properties);
+    }
+
+    // Returns a Java expression converting value from one type to the other, or null if unsupported
+    private String convert(String value, TypeMirror from, TypeMirror to, int scale, String property) {
+        if (processingEnv.getTypeUtils().isAssignable(from, to)) {
+            return value;
+        }
+        if (isType(to, BIG_DECIMAL)) {
+            final TypeKind kind = unboxedKind(from);
+            if (kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.SHORT || kind == TypeKind.BYTE) {
+                return scale >= 0 ? BIG_DECIMAL + ".valueOf(" + value + ", " + scale + ")" : BIG_DECIMAL + ".valueOf(" + value + ")";
+            }
+            // BigDecimal has no NaN or infinity, so those are rejected before converting
+            final String finite = REQUIRE_FINITE + "(" + value + ", \"" + property + "\")";
+            if (kind == TypeKind.DOUBLE) {
+                return BIG_DECIMAL + ".valueOf(" + finite + ")";
+            }
+            if (kind == TypeKind.FLOAT) {
+                // Via the float's own decimal form, not its widened double value; the cast back is exact
+                return "new " + BIG_DECIMAL + "(Float.toString((float) " + finite + "))";
+            }
+            return null;
+        }
+        if (isType(to, "java.lang.String")) {
+            return "String.valueOf(" + value + ")";
+        }
+        return null;
+    }
+
+    private void write(TypeElement source, String packageName, String className, String targetName, List<Property> properties) {
+        final StringBuilder code = new StringBuilder();
+        code.append("package ").append(packageName).append(";\n\n");
+        code.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        code.append("public final class ").append(className).append(" implements ").append(targetName).append(" {\n");
+        for (Property property : properties) {
+            code.append("    private final ").append(property.type()).append(' ').append(property.name()).append(";\n");
+        }
+        code.append("\n    public ").append(className).append('(').append(source.getQualifiedName()).append(" source) {\n");
+        for (Property property : properties) {
+            if (property.nullable()) {
+                final String local = property.name() + "Value";
+                code.append("        final ").append(property.sourceType()).append(' ').append(local).append(" = ")
+                        .append(property.read()).append(";\n");
+                code.append("        this.").append(property.name()).append(" = ").append(local).append(" == null ? null : ")
+                        .append(property.conversion()).append(";\n");
+            } else {
+                code.append("        this.").append(property.name()).append(" = ").append(property.conversion()).append(";\n");
+            }
+        }
+        code.append("    }\n");
+        if (properties.stream().anyMatch(property -> property.conversion().contains(REQUIRE_FINITE + "("))) {
+            code.append("\n    private static double ").append(REQUIRE_FINITE).append("(double value, String property) {\n")
+                    .append("        if (!Double.isFinite(value)) {\n")
+                    .append("            throw new IllegalArgumentException(\"Cannot map \" + value + \" to ")
+                    .append(className).append(".\" + property);\n")
+                    .append("        }\n        return value;\n    }\n");
+        }
+        for (Property property : properties) {
+            code.append("\n    @Override\n    public ").append(property.type()).append(' ').append(property.getter())
+                    .append("() {\n        return ").append(property.name()).append(";\n    }\n");
+        }
+        code.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className, source).openWriter()) {
+            writer.write(code.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, ExecutableElement> getters(TypeElement type) {
+        final Map<String, ExecutableElement> getters = new HashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final String name = propertyName(method);
+            if (name != null && method.getParameters().isEmpty() && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC) && method.getReturnType().getKind() != TypeKind.VOID) {
+                getters.put(name, method);
+            }
+        }
+        return getters;
+    }
+
+    private static String propertyName(ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        final int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+        if (prefix == 0 || name.length() == prefix || name.equals("getClass")) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    private TypeKind unboxedKind(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind();
+        }
+        try {
+            return processingEnv.getTypeUtils().unboxedType(type).getKind();
+        } catch (IllegalArgumentException e) {
+            return TypeKind.NONE;
+        }
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type instanceof DeclaredType declared
+                && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static TypeMirror targetType(GenerateAdapter annotation) {
+        // Class values are not loadable during compilation; the mirror comes with the exception
+        try {
+            annotation.target();
+            throw new IllegalStateException("Expected a mirrored type");
+        } catch (MirroredTypeException e) {
+            return e.getTypeMirror();
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private record Property(String name, String getter, String type, String sourceType, String read, String conversion,
+                            boolean nullable) {
+    }
+}
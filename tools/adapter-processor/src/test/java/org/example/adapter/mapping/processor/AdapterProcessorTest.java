@@ -0,0 +1,137 @@
+package org.example.adapter.mapping.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdapterProcessorTest {
+    // Target interface of the adapters under test, compiled along with each source
+    private static final String ITEM = """
+            package demo;
+
+            public interface Item {
+                String getName();
+
+                java.math.BigDecimal getPrice();
+
+                String getDescription();
+            }
+            """;
+
+    @TempDir
+    Path dir;
+
+    private DiagnosticCollector<JavaFileObject> compile(String source) throws IOException {
+        final Path file = dir.resolve("src/demo/VendorItem.java");
+        final Path item = dir.resolve("src/demo/Item.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        Files.writeString(item, ITEM);
+        Files.createDirectories(dir.resolve("out"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", dir.resolve("out").toString(), "-classpath", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjects(file, item));
+            task.setProcessors(List.of(new AdapterProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private Object adapt(String adapterName) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.resolve("out").toUri().toURL()}, getClass().getClassLoader())) {
+            final Object item = loader.loadClass("demo.VendorItem").getConstructor().newInstance();
+            return loader.loadClass("demo." + adapterName).getConstructor(item.getClass()).newInstance(item);
+        }
+    }
+
+    private static Object get(Object adapter, String getter) throws ReflectiveOperationException {
+        return adapter.getClass().getMethod(getter).invoke(adapter);
+    }
+
+    @Test
+    void testGeneratesAdapterWithConversions() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package demo;
+
+                import org.example.adapter.mapping.GenerateAdapter;
+                import org.example.adapter.mapping.Mapping;
+
+                @GenerateAdapter(target = Item.class, name = "VendorProduct", mappings = {
+                        @Mapping(target = "price", source = "amount")
+                })
+                public class VendorItem {
+                    public String getName() { return "lamp"; }
+                    public Double getAmount() { return 0.1 + 0.2; }
+                    public String getDescription() { return null; }
+                }
+                """);
+        assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics().toString());
+
+        final Object product = adapt("VendorProduct");
+        assertEquals("lamp", get(product, "getName"));
+        assertEquals(BigDecimal.valueOf(0.1 + 0.2), get(product, "getPrice"));
+        assertNull(get(product, "getDescription"));
+    }
+
+    @Test
+    void testRejectsNonFiniteFloatingPointPrice() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package demo;
+
+                import org.example.adapter.mapping.GenerateAdapter;
+
+                @GenerateAdapter(target = Item.class, name = "VendorProduct")
+                public class VendorItem {
+                    public String getName() { return "lamp"; }
+                    public double getPrice() { return Double.NaN; }
+                    public String getDescription() { return "broken"; }
+                }
+                """);
+        assertTrue(diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics().toString());
+
+        final InvocationTargetException exception = assertThrows(InvocationTargetException.class, () -> adapt("VendorProduct"));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("Cannot map NaN to VendorProduct.price", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testReportsMissingSourceProperty() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package demo;
+
+                import org.example.adapter.mapping.GenerateAdapter;
+
+                @GenerateAdapter(target = Item.class)
+                public class VendorItem {
+                    public String getName() { return "lamp"; }
+                    public double getPrice() { return 1.0; }
+                }
+                """);
+
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .toList();
+        assertEquals(List.of("No getter for property 'description' to map to Item.description"), errors);
+    }
+}